@@ -0,0 +1,35 @@
+package com.http200ok.finbuddy.account.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 입금이 몰리는 계좌의 보조 잔액 행
+ * - 입금은 계좌 행 대신 여러 보조 행 중 하나에 누적하여 행 락 경합을 분산
+ * - 실제 잔액 = Account.balance + 보조 행 amount 합계
+ * - 주기적으로 Account.balance에 합산 후 0으로 초기화 (AccountBalanceCompactionScheduler)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_account_balance_stripe", columnNames = {"account_id", "stripe_no"})
+})
+public class AccountBalanceStripe {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "account_balance_stripe_id")
+    private Long id;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(name = "stripe_no", nullable = false)
+    private Integer stripeNo;
+
+    @Column(nullable = false)
+    private Long amount;
+}
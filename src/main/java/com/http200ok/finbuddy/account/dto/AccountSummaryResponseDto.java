@@ -16,13 +16,18 @@ public class AccountSummaryResponseDto {
     private Long balance;
 
     public static AccountSummaryResponseDto from(Account account) {
+        return from(account, account.getBalance());
+    }
+
+    // 보조 잔액이 합산된 잔액으로 응답
+    public static AccountSummaryResponseDto from(Account account, Long balance) {
         return new AccountSummaryResponseDto(
                 account.getId(),
                 account.getAccountName(),
                 account.getAccountType(),
                 account.getBank().getLogoUrl(),
                 account.getAccountNumber(),
-                account.getBalance()
+                balance
         );
     }
 }
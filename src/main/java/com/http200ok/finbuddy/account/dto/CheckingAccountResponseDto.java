@@ -15,13 +15,18 @@ public class CheckingAccountResponseDto {
     private Long balance;
 
     public static CheckingAccountResponseDto from(Account account) {
+        return from(account, account.getBalance());
+    }
+
+    // 보조 잔액이 합산된 잔액으로 응답
+    public static CheckingAccountResponseDto from(Account account, Long balance) {
         return new CheckingAccountResponseDto(
                 account.getId(),
                 account.getBank().getName(),
                 account.getMember().getName(),
                 account.getAccountName(),
                 account.getAccountNumber(),
-                account.getBalance()
+                balance
         );
     }
 }
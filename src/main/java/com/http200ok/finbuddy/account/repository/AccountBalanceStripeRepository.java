@@ -0,0 +1,41 @@
+package com.http200ok.finbuddy.account.repository;
+
+import com.http200ok.finbuddy.account.domain.AccountBalanceStripe;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface AccountBalanceStripeRepository extends JpaRepository<AccountBalanceStripe, Long> {
+
+    // 보조 잔액 행 생성 (이미 있으면 무시, 여러 서버가 동시에 기동해도 안전)
+    @Modifying
+    @Query(value = """
+        INSERT IGNORE INTO account_balance_stripe (account_id, stripe_no, amount)
+        VALUES (:accountId, :stripeNo, 0)
+    """, nativeQuery = true)
+    int insertIfAbsent(@Param("accountId") Long accountId, @Param("stripeNo") int stripeNo);
+
+    // 보조 잔액 행 하나에 입금 (해당 보조 행에만 락)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE AccountBalanceStripe s SET s.amount = s.amount + :amount WHERE s.accountId = :accountId AND s.stripeNo = :stripeNo")
+    int addAmount(@Param("accountId") Long accountId, @Param("stripeNo") int stripeNo, @Param("amount") long amount);
+
+    // 아직 계좌 잔액에 합산되지 않은 보조 잔액 합계
+    @Query("SELECT COALESCE(SUM(s.amount), 0) FROM AccountBalanceStripe s WHERE s.accountId = :accountId")
+    long sumAmountByAccountId(@Param("accountId") Long accountId);
+
+    // 보조 잔액 합계 조회 + 보조 행 전체 락 (합산 중 들어오는 입금은 커밋까지 대기)
+    @Query(value = """
+        SELECT COALESCE(SUM(amount), 0)
+        FROM account_balance_stripe
+        WHERE account_id = :accountId
+        FOR UPDATE
+    """, nativeQuery = true)
+    long lockAndSumAmountByAccountId(@Param("accountId") Long accountId);
+
+    // 합산이 끝난 보조 잔액 초기화
+    @Modifying
+    @Query("UPDATE AccountBalanceStripe s SET s.amount = 0 WHERE s.accountId = :accountId AND s.amount <> 0")
+    int resetAmountByAccountId(@Param("accountId") Long accountId);
+}
@@ -2,11 +2,15 @@ package com.http200ok.finbuddy.account.repository;
 
 import com.http200ok.finbuddy.account.domain.Account;
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,8 +31,9 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
     """)
     List<Account> findCheckingAccountsByMemberId(@Param("memberId") Long memberId);
 
-    // ID로 조회하는 비관적 락 메소드
+    // ID로 조회하는 비관적 락 메소드 (락 대기 시간 제한)
     @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "5000"))
     @Query("SELECT a FROM Account a WHERE a.id = :id")
     Optional<Account> findByIdWithPessimisticLock(@Param("id") Long id);
 
@@ -38,6 +43,14 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
     Optional<Account> findByBankNameAndAccountNumberWithPessimisticLock(@Param("bankName") String bankName,
                                                                         @Param("accountNumber") String accountNumber);
 
+    // 은행명과 계좌번호로 계좌 ID만 조회 (락 없이, 락 순서 결정용)
+    @Query("SELECT a.id FROM Account a JOIN a.bank b WHERE b.name = :bankName AND a.accountNumber = :accountNumber")
+    Optional<Long> findIdByBankNameAndAccountNumber(@Param("bankName") String bankName, @Param("accountNumber") String accountNumber);
+
+    // 계좌번호 목록으로 계좌 일괄 조회 (은행/회원 함께 조회, 락 없음)
+    @Query("SELECT a FROM Account a JOIN FETCH a.bank JOIN FETCH a.member WHERE a.accountNumber IN :accountNumbers")
+    List<Account> findAllWithBankAndMemberByAccountNumberIn(@Param("accountNumbers") Collection<String> accountNumbers);
+
     // 은행명과 계좌번호로 조회
     @Query("SELECT a FROM Account a JOIN a.bank b WHERE b.name = :bankName AND a.accountNumber = :accountNumber")
     Optional<Account> findByBankNameAndAccountNumber(@Param("bankName") String bankName, @Param("accountNumber") String accountNumber);
@@ -53,5 +66,28 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
     List<Account> findByMemberId(Long memberId);
 
     void deleteByMemberId(Long memberId);
+
+    // 잔액이 충분할 때만 출금 (UPDATE 한 문장으로 확인과 차감을 함께 처리, 잔액 부족 시 0 반환)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Account a SET a.balance = a.balance - :amount WHERE a.id = :id AND a.balance >= :amount")
+    int debitIfSufficient(@Param("id") Long id, @Param("amount") long amount);
+
+    // 입금
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Account a SET a.balance = a.balance + :amount WHERE a.id = :id")
+    int credit(@Param("id") Long id, @Param("amount") long amount);
+
+    // 현재 잔액만 조회 (영속성 컨텍스트가 아닌 DB 값)
+    @Query("SELECT a.balance FROM Account a WHERE a.id = :id")
+    Long findBalanceById(@Param("id") Long id);
+
+    // 회원의 계좌 ID 목록 조회 (엔티티 로딩 없이)
+    @Query("SELECT a.id FROM Account a WHERE a.member.id = :memberId ORDER BY a.id")
+    List<Long> findIdsByMemberId(@Param("memberId") Long memberId);
+
+    // 회원의 계좌 일괄 삭제 (거래내역 cascade를 거치지 않으므로 거래내역을 먼저 삭제해야 함)
+    @Modifying
+    @Query("DELETE FROM Account a WHERE a.member.id = :memberId")
+    int deleteAllByMemberIdInBulk(@Param("memberId") Long memberId);
 }
 
@@ -0,0 +1,25 @@
+package com.http200ok.finbuddy.account.scheduler;
+
+import com.http200ok.finbuddy.account.service.AccountBalanceStripeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class AccountBalanceCompactionScheduler {
+
+    private final AccountBalanceStripeService accountBalanceStripeService;
+
+    // 10초마다 분산 계좌의 보조 잔액을 계좌 잔액에 합산 (계좌마다 별도 트랜잭션)
+    @Scheduled(fixedDelay = 10_000)
+    public void compactStripedBalances() {
+        for (Long accountId : accountBalanceStripeService.getStripedAccountIds()) {
+            try {
+                accountBalanceStripeService.compact(accountId);
+            } catch (Exception e) {
+                System.out.println("계좌 ID " + accountId + " 보조 잔액 합산 중 오류: " + e.getMessage());
+            }
+        }
+    }
+}
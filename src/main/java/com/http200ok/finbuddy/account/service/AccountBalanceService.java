@@ -0,0 +1,8 @@
+package com.http200ok.finbuddy.account.service;
+
+public interface AccountBalanceService {
+    // 잔액이 충분할 때만 출금 (변경 후 잔액 반환, 보조 잔액 분산 계좌는 보조 잔액을 먼저 합산)
+    long debit(Long accountId, long amount);
+    // 입금 (변경 후 잔액 반환, 보조 잔액 분산 계좌는 락 없이 읽은 근사값)
+    long credit(Long accountId, long amount);
+}
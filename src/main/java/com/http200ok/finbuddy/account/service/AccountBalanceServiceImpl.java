@@ -0,0 +1,57 @@
+package com.http200ok.finbuddy.account.service;
+
+import com.http200ok.finbuddy.account.repository.AccountRepository;
+import com.http200ok.finbuddy.common.exception.InsufficientBalanceException;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 조건부 UPDATE 한 문장으로 계좌 잔액 변경
+ * - 엔티티를 읽어 자바에서 계산한 뒤 저장하지 않으므로, 행 락은 UPDATE 시점부터만 잡힘
+ * - 영속성 컨텍스트에 올라와 있는 Account 엔티티의 balance는 갱신되지 않음 (변경 후 잔액은 반환값 사용)
+ * - 호출하는 쪽 트랜잭션 안에서만 사용 (커밋/롤백은 호출자가 결정)
+ */
+@Service
+@RequiredArgsConstructor
+public class AccountBalanceServiceImpl implements AccountBalanceService {
+
+    private final AccountRepository accountRepository;
+    private final AccountBalanceStripeService accountBalanceStripeService;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long debit(Long accountId, long amount) {
+        // 보조 잔액 분산 계좌는 합산 전 입금액도 출금할 수 있도록 먼저 계좌 잔액에 합산
+        // (보조 행 -> 계좌 행 순서로 잠금, 합산 스케줄러와 같은 순서)
+        if (accountBalanceStripeService.isStriped(accountId)) {
+            accountBalanceStripeService.compact(accountId);
+        }
+        if (accountRepository.debitIfSufficient(accountId, amount) == 0) {
+            // 계좌가 없는 경우와 잔액이 부족한 경우 구분
+            if (!accountRepository.existsById(accountId)) {
+                throw new EntityNotFoundException("Account not found with id: " + accountId);
+            }
+            throw new InsufficientBalanceException("잔액이 부족합니다");
+        }
+        return accountRepository.findBalanceById(accountId);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long credit(Long accountId, long amount) {
+        // 입금이 몰리는 계좌는 계좌 행 대신 보조 잔액 행에 입금
+        if (accountBalanceStripeService.isStriped(accountId)) {
+            Long balance = accountBalanceStripeService.credit(accountId, amount);
+            if (balance != null) {
+                return balance;
+            }
+        }
+        if (accountRepository.credit(accountId, amount) == 0) {
+            throw new EntityNotFoundException("Account not found with id: " + accountId);
+        }
+        return accountRepository.findBalanceById(accountId);
+    }
+}
@@ -0,0 +1,20 @@
+package com.http200ok.finbuddy.account.service;
+
+import com.http200ok.finbuddy.account.domain.Account;
+
+import java.util.Set;
+
+public interface AccountBalanceStripeService {
+    // 보조 잔액 분산 대상 계좌 여부
+    boolean isStriped(Long accountId);
+    Set<Long> getStripedAccountIds();
+    // 보조 잔액 행에 입금 (변경 후 잔액 반환, 보조 행이 없으면 null)
+    // - 반환 잔액은 락 없이 읽은 근사값: 동시 입금이 있으면 거래내역의 입금 후 잔액이 단조 증가하지 않거나 중복될 수 있음
+    Long credit(Long accountId, long amount);
+    // 아직 계좌 잔액에 합산되지 않은 보조 잔액 합계
+    long getPendingAmount(Long accountId);
+    // 조회용 잔액 (계좌 잔액 + 아직 합산되지 않은 보조 잔액)
+    long getBalance(Account account);
+    // 보조 잔액을 계좌 잔액에 합산 (합산한 금액 반환)
+    long compact(Long accountId);
+}
@@ -0,0 +1,104 @@
+package com.http200ok.finbuddy.account.service;
+
+import com.http200ok.finbuddy.account.domain.Account;
+import com.http200ok.finbuddy.account.repository.AccountBalanceStripeRepository;
+import com.http200ok.finbuddy.account.repository.AccountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 입금이 몰리는 계좌의 잔액 분산 처리
+ * - 설정(account.balance-striping.account-ids)에 지정된 계좌만 대상
+ * - 입금은 임의의 보조 행 하나에 UPDATE 하므로, 동시 입금이 stripe-count개 행으로 나뉘어 병렬 처리됨
+ * - 출금 전에는 보조 잔액을 계좌 행에 먼저 합산하므로, 합산 전 입금액도 바로 출금 가능
+ * - 입금 거래내역의 입금 후 잔액(updatedBalance)은 근사값 (동시 입금 시 순서가 뒤바뀌거나 같은 값이 기록될 수 있음)
+ */
+@Service
+@RequiredArgsConstructor
+public class AccountBalanceStripeServiceImpl implements AccountBalanceStripeService {
+
+    private final AccountBalanceStripeRepository stripeRepository;
+    private final AccountRepository accountRepository;
+
+    @Value("${account.balance-striping.account-ids:}")
+    private List<Long> stripedAccountIdList;
+
+    @Value("${account.balance-striping.stripe-count:8}")
+    private int stripeCount;
+
+    private Set<Long> stripedAccountIds = Set.of();
+
+    // 기동 시 대상 계좌의 보조 잔액 행 생성
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initializeStripes() {
+        stripedAccountIds = Set.copyOf(stripedAccountIdList);
+        for (Long accountId : stripedAccountIds) {
+            for (int stripeNo = 0; stripeNo < stripeCount; stripeNo++) {
+                stripeRepository.insertIfAbsent(accountId, stripeNo);
+            }
+        }
+        if (!stripedAccountIds.isEmpty()) {
+            System.out.println("잔액 분산 계좌 " + stripedAccountIds.size() + "개 (보조 행 " + stripeCount + "개씩)");
+        }
+    }
+
+    @Override
+    public boolean isStriped(Long accountId) {
+        return stripedAccountIds.contains(accountId);
+    }
+
+    @Override
+    public Set<Long> getStripedAccountIds() {
+        return stripedAccountIds;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Long credit(Long accountId, long amount) {
+        int stripeNo = ThreadLocalRandom.current().nextInt(stripeCount);
+        if (stripeRepository.addAmount(accountId, stripeNo, amount) == 0) {
+            return null;
+        }
+        // 락 없이 읽으므로 동시 입금이 있으면 근사값 (거래내역의 입금 후 잔액 표시용, 행 간 단조 증가 보장 안 됨)
+        return accountRepository.findBalanceById(accountId) + stripeRepository.sumAmountByAccountId(accountId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long getPendingAmount(Long accountId) {
+        return isStriped(accountId) ? stripeRepository.sumAmountByAccountId(accountId) : 0L;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long getBalance(Account account) {
+        return account.getBalance() + getPendingAmount(account.getId());
+    }
+
+    /**
+     * 보조 잔액 합산
+     * - 보조 행을 모두 잠근 뒤 합계를 계좌 행에 더하고 0으로 초기화 (합산 도중 입금이 유실되지 않음)
+     * - 락 순서: 보조 행 -> 계좌 행 (입금은 보조 행 하나만, 출금은 계좌 행만 잠그므로 순환 대기 없음)
+     */
+    @Override
+    @Transactional
+    public long compact(Long accountId) {
+        long pending = stripeRepository.lockAndSumAmountByAccountId(accountId);
+        if (pending == 0) {
+            return 0L;
+        }
+        accountRepository.credit(accountId, pending);
+        stripeRepository.resetAmountByAccountId(accountId);
+        return pending;
+    }
+}
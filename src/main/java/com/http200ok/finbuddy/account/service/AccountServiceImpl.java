@@ -23,6 +23,7 @@ public class AccountServiceImpl implements AccountService {
     private final AccountRepository accountRepository;
     private final AccountValidator accountValidator;
     private final PasswordEncoder passwordEncoder;
+    private final AccountBalanceStripeService accountBalanceStripeService;
 
     @Override
     public AccountResponseDto getAccountDetails(Long memberId, Long accountId) {
@@ -39,7 +40,7 @@ public class AccountServiceImpl implements AccountService {
 
         // 잔고 합계 계산
         Long totalBalance = checkingAccounts.stream()
-                .mapToLong(Account::getBalance)
+                .mapToLong(accountBalanceStripeService::getBalance)
                 .sum();
 
         // Checking 계좌 개수 계산
@@ -48,7 +49,7 @@ public class AccountServiceImpl implements AccountService {
         // 계좌 ID로 정렬된 리스트에서 상위 3개만 가져오기
         List<AccountSummaryResponseDto> top3Accounts = checkingAccounts.stream()
                 .limit(3)
-                .map(AccountSummaryResponseDto::from)
+                .map(account -> AccountSummaryResponseDto.from(account, accountBalanceStripeService.getBalance(account)))
                 .collect(Collectors.toList());
 
         return new CheckingAccountsSummaryResponseDto(totalBalance, checkingAccountsCount, top3Accounts);
@@ -58,7 +59,7 @@ public class AccountServiceImpl implements AccountService {
     public List<AccountSummaryResponseDto> getAccountsByMemberId(Long memberId) {
         List<Account> accounts = accountRepository.findAccountsByMemberId(memberId);
         return accounts.stream()
-                .map(AccountSummaryResponseDto::from)
+                .map(account -> AccountSummaryResponseDto.from(account, accountBalanceStripeService.getBalance(account)))
                 .collect(Collectors.toList());
     }
 
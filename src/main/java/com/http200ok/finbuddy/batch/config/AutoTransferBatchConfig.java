@@ -1,27 +1,52 @@
 package com.http200ok.finbuddy.batch.config;
 
-import com.http200ok.finbuddy.batch.step.AutoTransferTasklet;
-import com.http200ok.finbuddy.batch.step.RetryFailedAutoTransferTasklet;
+import com.http200ok.finbuddy.batch.step.AutoTransferItemProcessor;
+import com.http200ok.finbuddy.batch.step.AutoTransferItemWriter;
+import com.http200ok.finbuddy.batch.step.AutoTransferPartitioner;
+import com.http200ok.finbuddy.batch.step.KeysetPagingItemReader;
+import com.http200ok.finbuddy.transfer.dto.AutoTransferExecutionItem;
+import com.http200ok.finbuddy.transfer.dto.AutoTransferExecutionResult;
+import com.http200ok.finbuddy.transfer.repository.AutoTransferRepository;
+import com.http200ok.finbuddy.transfer.service.AutoTransferService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 @Configuration
 @RequiredArgsConstructor
 public class AutoTransferBatchConfig {
 
+    // 청크(트랜잭션) 하나에서 처리할 자동이체 수
+    private static final int CHUNK_SIZE = 100;
+
     private final JobRepository jobRepository;
-    private final AutoTransferTasklet autoTransferTasklet;
-    private final RetryFailedAutoTransferTasklet retryFailedAutoTransferTasklet;
+    private final AutoTransferRepository autoTransferRepository;
+    private final AutoTransferService autoTransferService;
+    private final AutoTransferItemProcessor autoTransferItemProcessor;
     private final PlatformTransactionManager transactionManager;
 
+    // 동시에 실행할 파티션 수 (파티션마다 청크/이체 트랜잭션으로 DB 커넥션 2개 사용)
+    @Value("${batch.auto-transfer.grid-size:4}")
+    private int gridSize;
+
     @Bean
     public Job autoTransferJob() {
         return new JobBuilder("autoTransferJob", jobRepository)
@@ -30,13 +55,68 @@ public class AutoTransferBatchConfig {
                 .build();
     }
 
+    /**
+     * 자동이체 ID 범위로 파티션을 나누어 워커 스텝을 병렬 실행
+     */
     @Bean
     public Step autoTransferStep() {
         return new StepBuilder("autoTransferStep", jobRepository)
-                .tasklet(autoTransferTasklet, transactionManager)
+                .partitioner("autoTransferWorkerStep", autoTransferPartitioner(null))
+                .step(autoTransferWorkerStep())
+                .gridSize(gridSize)
+                .taskExecutor(autoTransferTaskExecutor())
+                .build();
+    }
+
+    @Bean
+    public Step autoTransferWorkerStep() {
+        return new StepBuilder("autoTransferWorkerStep", jobRepository)
+                .<AutoTransferExecutionItem, AutoTransferExecutionResult>chunk(CHUNK_SIZE, transactionManager)
+                .reader(autoTransferItemReader(null, null, null))
+                .processor(autoTransferItemProcessor)
+                .writer(new AutoTransferItemWriter(autoTransferService, false))
                 .build();
     }
 
+    @Bean
+    @StepScope
+    public AutoTransferPartitioner autoTransferPartitioner(
+            @Value("#{jobParameters['executionDate']}") LocalDate executionDate) {
+        return new AutoTransferPartitioner(autoTransferRepository,
+                executionDate != null ? executionDate : LocalDate.now());
+    }
+
+    @Bean
+    @StepScope
+    public KeysetPagingItemReader<AutoTransferExecutionItem> autoTransferItemReader(
+            @Value("#{stepExecutionContext['minAccountId']}") Long minAccountId,
+            @Value("#{stepExecutionContext['maxAccountId']}") Long maxAccountId,
+            @Value("#{stepExecutionContext['dueDates']}") String dueDates) {
+        Map<Integer, LocalDate> dueDateByDay = AutoTransferPartitioner.parseDueDates(dueDates);
+        List<Integer> days = new ArrayList<>(dueDateByDay.keySet());
+        return new KeysetPagingItemReader<>(
+                "autoTransferItemReader",
+                // 이체일에 해당하는 예정일을 지정 (멱등 키를 실행일이 아닌 예정일 기준으로 생성)
+                (lastId, pageSize) -> autoTransferRepository.findExecutionItemsAfter(
+                                lastId, minAccountId, maxAccountId, days, PageRequest.of(0, pageSize)).stream()
+                        .map(item -> item.withDueDate(dueDateByDay.get(item.getTransferDay())))
+                        .toList(),
+                AutoTransferExecutionItem::getAutoTransferId,
+                CHUNK_SIZE,
+                0L
+        );
+    }
+
+    @Bean
+    public TaskExecutor autoTransferTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(gridSize);
+        executor.setMaxPoolSize(gridSize);
+        executor.setThreadNamePrefix("auto-transfer-");
+        executor.initialize();
+        return executor;
+    }
+
     @Bean
     public Job retryFailedAutoTransferJob() {
         return new JobBuilder("retryFailedAutoTransferJob", jobRepository)
@@ -45,10 +125,32 @@ public class AutoTransferBatchConfig {
                 .build();
     }
 
+    /**
+     * 재시도 시각이 도래한 실패 자동이체만 재실행
+     * - 같은 retryWindow(시간 단위) 파라미터로 다시 실행하면 ExecutionContext의 마지막 ID부터 이어서 처리
+     */
     @Bean
     public Step retryFailedAutoTransferStep() {
         return new StepBuilder("retryFailedAutoTransferStep", jobRepository)
-                .tasklet(retryFailedAutoTransferTasklet, transactionManager)
+                .<AutoTransferExecutionItem, AutoTransferExecutionResult>chunk(CHUNK_SIZE, transactionManager)
+                .reader(retryFailedAutoTransferItemReader(null))
+                .processor(autoTransferItemProcessor)
+                .writer(new AutoTransferItemWriter(autoTransferService, true))
                 .build();
     }
+
+    @Bean
+    @StepScope
+    public KeysetPagingItemReader<AutoTransferExecutionItem> retryFailedAutoTransferItemReader(
+            @Value("#{jobParameters['retryWindow']}") LocalDateTime retryWindow) {
+        LocalDateTime dueAt = retryWindow != null ? retryWindow : LocalDateTime.now();
+        return new KeysetPagingItemReader<>(
+                "retryFailedAutoTransferItemReader",
+                (lastId, pageSize) -> autoTransferRepository.findRetryItemsAfter(
+                        lastId, dueAt, PageRequest.of(0, pageSize)),
+                AutoTransferExecutionItem::getAutoTransferId,
+                CHUNK_SIZE,
+                0L
+        );
+    }
 }
\ No newline at end of file
@@ -0,0 +1,105 @@
+package com.http200ok.finbuddy.batch.config;
+
+import com.http200ok.finbuddy.batch.step.ChunkThrottleListener;
+import com.http200ok.finbuddy.batch.step.KeysetPagingItemReader;
+import com.http200ok.finbuddy.batch.step.NotificationArchiveItemWriter;
+import com.http200ok.finbuddy.batch.step.NotificationPurgeItemWriter;
+import com.http200ok.finbuddy.notification.repository.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Configuration
+@RequiredArgsConstructor
+public class NotificationRetentionBatchConfig {
+
+    // 청크(트랜잭션) 하나에서 삭제/이동할 알림 수
+    private static final int CHUNK_SIZE = 500;
+
+    private final JobRepository jobRepository;
+    private final NotificationRepository notificationRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    // 읽은 알림을 보관 테이블로 옮기기까지의 기간 (일)
+    @Value("${batch.notification-retention.archive-after-days:90}")
+    private int archiveAfterDays;
+
+    // 청크 사이 대기 시간 (0이면 쉬지 않음)
+    @Value("${batch.notification-retention.chunk-pause-ms:200}")
+    private long chunkPauseMillis;
+
+    /**
+     * 소프트 삭제된 알림을 먼저 지운 뒤 오래된 읽은 알림을 보관 테이블로 이동
+     */
+    @Bean
+    public Job notificationRetentionJob() {
+        return new JobBuilder("notificationRetentionJob", jobRepository)
+                .incrementer(new RunIdIncrementer())
+                .start(purgeDeletedNotificationStep())
+                .next(archiveReadNotificationStep())
+                .build();
+    }
+
+    @Bean
+    public Step purgeDeletedNotificationStep() {
+        return new StepBuilder("purgeDeletedNotificationStep", jobRepository)
+                .<Long, Long>chunk(CHUNK_SIZE, transactionManager)
+                .reader(deletedNotificationIdReader())
+                .writer(new NotificationPurgeItemWriter(notificationRepository))
+                .listener(new ChunkThrottleListener(chunkPauseMillis))
+                .build();
+    }
+
+    @Bean
+    public Step archiveReadNotificationStep() {
+        return new StepBuilder("archiveReadNotificationStep", jobRepository)
+                .<Long, Long>chunk(CHUNK_SIZE, transactionManager)
+                .reader(readNotificationIdReader(null))
+                .writer(new NotificationArchiveItemWriter(notificationRepository))
+                .listener(new ChunkThrottleListener(chunkPauseMillis))
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public KeysetPagingItemReader<Long> deletedNotificationIdReader() {
+        return new KeysetPagingItemReader<>(
+                "deletedNotificationIdReader",
+                (lastId, pageSize) -> notificationRepository.findDeletedIdsAfter(lastId, PageRequest.of(0, pageSize)),
+                Long::longValue,
+                CHUNK_SIZE,
+                0L
+        );
+    }
+
+    @Bean
+    @StepScope
+    public KeysetPagingItemReader<Long> readNotificationIdReader(
+            @Value("#{jobParameters['runDate']}") LocalDate runDate) {
+        // 실행 일자 기준으로 고정하여 재시작 시에도 같은 대상 범위 유지
+        LocalDateTime cutoff = (runDate != null ? runDate : LocalDate.now())
+                .minusDays(archiveAfterDays)
+                .atStartOfDay();
+        return new KeysetPagingItemReader<>(
+                "readNotificationIdReader",
+                (lastId, pageSize) -> notificationRepository.findReadIdsCreatedBeforeAfter(
+                        lastId, cutoff, PageRequest.of(0, pageSize)),
+                Long::longValue,
+                CHUNK_SIZE,
+                0L
+        );
+    }
+}
@@ -0,0 +1,37 @@
+package com.http200ok.finbuddy.batch.config;
+
+import com.http200ok.finbuddy.batch.step.RebuildTransactionRollupTasklet;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+@RequiredArgsConstructor
+public class TransactionRollupBatchConfig {
+
+    private final JobRepository jobRepository;
+    private final RebuildTransactionRollupTasklet rebuildTransactionRollupTasklet;
+    private final PlatformTransactionManager transactionManager;
+
+    @Bean
+    public Job transactionRollupRebuildJob() {
+        return new JobBuilder("transactionRollupRebuildJob", jobRepository)
+                .incrementer(new RunIdIncrementer())
+                .start(transactionRollupRebuildStep())
+                .build();
+    }
+
+    @Bean
+    public Step transactionRollupRebuildStep() {
+        return new StepBuilder("transactionRollupRebuildStep", jobRepository)
+                .tasklet(rebuildTransactionRollupTasklet, transactionManager)
+                .build();
+    }
+}
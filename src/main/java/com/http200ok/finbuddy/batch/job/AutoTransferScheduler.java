@@ -8,7 +8,10 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
 
 @Component
 public class AutoTransferScheduler {
@@ -29,6 +32,7 @@ public class AutoTransferScheduler {
     public void runAutoTransferJob() {
         try {
             JobParameters params = new JobParametersBuilder()
+                    .addLocalDate("executionDate", LocalDate.now())
                     .addLong("time", System.currentTimeMillis())
                     .toJobParameters();
 
@@ -50,8 +54,9 @@ public class AutoTransferScheduler {
         }
 
         try {
+            // 시간 단위 실행 창을 파라미터로 사용 - 같은 시간대에 다시 실행하면 실패한 지점부터 재시작
             JobParameters params = new JobParametersBuilder()
-                    .addLong("time", System.currentTimeMillis())
+                    .addLocalDateTime("retryWindow", LocalDateTime.now().truncatedTo(ChronoUnit.HOURS))
                     .toJobParameters();
 
             jobLauncher.run(retryFailedAutoTransferJob, params);
@@ -0,0 +1,40 @@
+package com.http200ok.finbuddy.batch.job;
+
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+@Component
+public class NotificationRetentionScheduler {
+
+    private final JobLauncher jobLauncher;
+    private final Job notificationRetentionJob;
+
+    public NotificationRetentionScheduler(JobLauncher jobLauncher,
+                                          @Qualifier("notificationRetentionJob") Job notificationRetentionJob) {
+        this.jobLauncher = jobLauncher;
+        this.notificationRetentionJob = notificationRetentionJob;
+    }
+
+    // 매일 새벽 3시 30분, 트래픽이 적은 시간에 삭제/보관 처리
+    @Scheduled(cron = "0 30 3 * * ?")
+    public void runNotificationRetentionJob() {
+        try {
+            // 실행 일자를 파라미터로 사용 - 같은 날 다시 실행하면 실패한 지점부터 재시작
+            JobParameters params = new JobParametersBuilder()
+                    .addLocalDate("runDate", LocalDate.now())
+                    .toJobParameters();
+
+            jobLauncher.run(notificationRetentionJob, params);
+            System.out.println("Batch 알림 보관 Job 실행됨");
+        } catch (Exception e) {
+            System.out.println("Batch 알림 보관 Job 실행 중 오류" + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.http200ok.finbuddy.batch.job;
+
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TransactionRollupScheduler {
+
+    private final JobLauncher jobLauncher;
+    private final Job transactionRollupRebuildJob;
+
+    public TransactionRollupScheduler(JobLauncher jobLauncher,
+                                      @Qualifier("transactionRollupRebuildJob") Job transactionRollupRebuildJob) {
+        this.jobLauncher = jobLauncher;
+        this.transactionRollupRebuildJob = transactionRollupRebuildJob;
+    }
+
+    // 매일 새벽 4시, 원본 거래내역 기준으로 월별 거래 집계를 재생성하여 누적 오차 보정
+    @Scheduled(cron = "0 0 4 * * ?")
+    public void runTransactionRollupRebuildJob() {
+        try {
+            JobParameters params = new JobParametersBuilder()
+                    .addLong("time", System.currentTimeMillis())
+                    .toJobParameters();
+
+            jobLauncher.run(transactionRollupRebuildJob, params);
+            System.out.println("Batch 월별 거래 집계 재생성 Job 실행됨");
+        } catch (Exception e) {
+            System.out.println("Batch 월별 거래 집계 재생성 Job 실행 중 오류" + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.http200ok.finbuddy.batch.step;
+
+import com.http200ok.finbuddy.common.exception.InsufficientBalanceException;
+import com.http200ok.finbuddy.common.transaction.DeadlockRetryExecutor;
+import com.http200ok.finbuddy.transfer.dto.AutoTransferExecutionItem;
+import com.http200ok.finbuddy.transfer.dto.AutoTransferExecutionResult;
+import com.http200ok.finbuddy.transfer.service.TransferService;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+
+/**
+ * 자동이체 실행 Processor
+ * - 이체마다 별도 트랜잭션(REQUIRES_NEW)으로 실행하여, 한 건의 실패가 청크 트랜잭션을 rollback-only로 만들지 않음
+ * - 데드락/락 대기 시간 초과는 새 트랜잭션으로 재시도
+ * - 멱등 키는 예정일의 연월로 구분 (주말분 월요일 실행, 월을 넘긴 재시도도 원래 회차의 키 사용)
+ * - 예외는 실패 결과로 변환하고, 상태 변경/알림은 Writer에서 일괄 처리
+ */
+@Component
+public class AutoTransferItemProcessor implements ItemProcessor<AutoTransferExecutionItem, AutoTransferExecutionResult> {
+
+    private final TransferService transferService;
+    private final DeadlockRetryExecutor deadlockRetryExecutor;
+
+    public AutoTransferItemProcessor(TransferService transferService, DeadlockRetryExecutor deadlockRetryExecutor) {
+        this.transferService = transferService;
+        this.deadlockRetryExecutor = deadlockRetryExecutor;
+    }
+
+    @Override
+    public AutoTransferExecutionResult process(AutoTransferExecutionItem item) {
+        try {
+            deadlockRetryExecutor.execute(status -> transferService.autoExecuteAccountTransfer(
+                    item.getMemberId(),
+                    item.getAccountId(),
+                    item.getTargetBankName(),
+                    item.getTargetAccountNumber(),
+                    item.getAmount(),
+                    item.getMemberName(),
+                    null,
+                    idempotencyKey(item)
+            ));
+            System.out.println("자동이체 성공 ID: " + item.getAutoTransferId());
+            return AutoTransferExecutionResult.success(item);
+        } catch (InsufficientBalanceException e) {
+            System.out.println("자동이체 실패(잔액 부족) ID: " + item.getAutoTransferId());
+            return AutoTransferExecutionResult.failure(item);
+        } catch (Exception e) {
+            System.out.println("자동이체 실패(기타 오류) ID: " + item.getAutoTransferId() + e.getMessage());
+            return AutoTransferExecutionResult.failure(item);
+        }
+    }
+
+    // 예정일이 기록되지 않은 이전 실패 건은 회차를 알 수 없으므로 멱등 키 없이 실행
+    private String idempotencyKey(AutoTransferExecutionItem item) {
+        if (item.getDueDate() == null) {
+            return null;
+        }
+        return "auto-transfer:" + item.getAutoTransferId() + ":" + YearMonth.from(item.getDueDate());
+    }
+}
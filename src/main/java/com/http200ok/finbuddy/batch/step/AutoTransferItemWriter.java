@@ -0,0 +1,24 @@
+package com.http200ok.finbuddy.batch.step;
+
+import com.http200ok.finbuddy.transfer.dto.AutoTransferExecutionResult;
+import com.http200ok.finbuddy.transfer.service.AutoTransferService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+
+/**
+ * 자동이체 실행 결과 Writer
+ * - 청크 단위로 성공/실패 상태를 일괄 UPDATE 하고 알림 발송
+ * - retryRun: 실패 재시도 스텝 여부 (실패 시 재시도 횟수 누적)
+ */
+@RequiredArgsConstructor
+public class AutoTransferItemWriter implements ItemWriter<AutoTransferExecutionResult> {
+
+    private final AutoTransferService autoTransferService;
+    private final boolean retryRun;
+
+    @Override
+    public void write(Chunk<? extends AutoTransferExecutionResult> chunk) {
+        autoTransferService.applyExecutionResults(chunk.getItems(), retryRun);
+    }
+}
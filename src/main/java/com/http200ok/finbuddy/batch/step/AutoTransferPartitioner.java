@@ -0,0 +1,117 @@
+package com.http200ok.finbuddy.batch.step;
+
+import com.http200ok.finbuddy.transfer.dto.AutoTransferAccountRangeDto;
+import com.http200ok.finbuddy.transfer.repository.AutoTransferRepository;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 자동이체 실행 대상을 출금 계좌 ID 범위로 나누는 Partitioner
+ * - 실행일 기준으로 대상 이체일을 계산하고, 대상 자동이체의 출금 계좌 MIN~MAX ID를 gridSize개 구간으로 분할
+ * - 같은 계좌에서 출금되는 자동이체는 항상 같은 파티션에서 처리되어 파티션 간 계좌 락 경합이 생기지 않음
+ * - 주말에는 파티션을 만들지 않음 (월요일에 주말분까지 함께 실행)
+ * - 대상 이체일마다 원래 예정일을 함께 넘겨, 실행일이 아닌 예정일 기준으로 회차(멱등 키)를 구분
+ */
+public class AutoTransferPartitioner implements Partitioner {
+
+    public static final String MIN_ACCOUNT_ID_KEY = "minAccountId";
+    public static final String MAX_ACCOUNT_ID_KEY = "maxAccountId";
+    public static final String DUE_DATES_KEY = "dueDates";
+
+    private final AutoTransferRepository autoTransferRepository;
+    private final LocalDate executionDate;
+
+    public AutoTransferPartitioner(AutoTransferRepository autoTransferRepository, LocalDate executionDate) {
+        this.autoTransferRepository = autoTransferRepository;
+        this.executionDate = executionDate;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+        DayOfWeek dayOfWeek = executionDate.getDayOfWeek();
+
+        // 주말(토, 일)이면 실행하지 않음
+        if (dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY) {
+            System.out.println("주말이므로 자동이체 실행 안 함.");
+            return partitions;
+        }
+
+        Map<Integer, LocalDate> dueDates = dueDatesOf(executionDate);
+        List<Integer> targetDays = new ArrayList<>(dueDates.keySet());
+        System.out.println("자동이체 실행 - 실행 날짜: " + executionDate + ", 실행 대상 날짜: " + targetDays);
+
+        AutoTransferAccountRangeDto accountRange = autoTransferRepository.findAccountRangeForScheduledExecution(targetDays);
+        if (accountRange == null || accountRange.getMinAccountId() == null) {
+            System.out.println("오늘 실행할 자동이체 없음.");
+            return partitions;
+        }
+
+        long minAccountId = accountRange.getMinAccountId();
+        long maxAccountId = accountRange.getMaxAccountId();
+        long rangeSize = (maxAccountId - minAccountId) / gridSize + 1;
+        String dueDatesValue = dueDates.entrySet().stream()
+                .map(entry -> entry.getKey() + "=" + entry.getValue())
+                .collect(Collectors.joining(","));
+
+        for (int i = 0; i < gridSize; i++) {
+            long from = minAccountId + rangeSize * i;
+            if (from > maxAccountId) {
+                break;
+            }
+            long to = Math.min(from + rangeSize - 1, maxAccountId);
+
+            ExecutionContext context = new ExecutionContext();
+            context.putLong(MIN_ACCOUNT_ID_KEY, from);
+            context.putLong(MAX_ACCOUNT_ID_KEY, to);
+            context.putString(DUE_DATES_KEY, dueDatesValue);
+            partitions.put("partition" + i, context);
+        }
+
+        System.out.println("자동이체 파티션 " + partitions.size() + "개 생성 (계좌 ID " + minAccountId + " ~ " + maxAccountId + ")");
+        return partitions;
+    }
+
+    // 실행일 기준 대상 이체일 -> 예정일 (이체일 순서 유지)
+    private Map<Integer, LocalDate> dueDatesOf(LocalDate date) {
+        Map<Integer, LocalDate> dueDates = new LinkedHashMap<>();
+
+        // 월요일이면 지난 주말(토, 일) + 월요일 날짜의 자동이체 실행
+        if (date.getDayOfWeek() == DayOfWeek.MONDAY) {
+            addDueDate(dueDates, date.minusDays(2));
+            addDueDate(dueDates, date.minusDays(1));
+        }
+        addDueDate(dueDates, date);
+        return dueDates;
+    }
+
+    private void addDueDate(Map<Integer, LocalDate> dueDates, LocalDate dueDate) {
+        dueDates.put(dueDate.getDayOfMonth(), dueDate);
+
+        // 그 달의 마지막 날이라면, transferDay가 마지막 날 이후인 항목도 그날을 예정일로 실행
+        int lastDayOfMonth = dueDate.lengthOfMonth();
+        if (dueDate.getDayOfMonth() == lastDayOfMonth) {
+            for (int day = lastDayOfMonth + 1; day <= 31; day++) {
+                dueDates.put(day, dueDate);
+            }
+        }
+    }
+
+    public static Map<Integer, LocalDate> parseDueDates(String dueDates) {
+        Map<Integer, LocalDate> parsed = new LinkedHashMap<>();
+        for (String entry : dueDates.split(",")) {
+            int index = entry.indexOf('=');
+            parsed.put(Integer.parseInt(entry.substring(0, index)), LocalDate.parse(entry.substring(index + 1)));
+        }
+        return parsed;
+    }
+}
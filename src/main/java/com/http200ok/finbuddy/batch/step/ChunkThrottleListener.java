@@ -0,0 +1,30 @@
+package com.http200ok.finbuddy.batch.step;
+
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+
+/**
+ * 청크 사이에 일정 시간 쉬어 가는 ChunkListener
+ * - 대량 삭제/이동 배치가 DB I/O와 락을 연속으로 점유해 서비스 트래픽과 경쟁하지 않도록 함
+ * - 청크 트랜잭션이 커밋된 뒤(afterChunk)에 쉬므로 대기 중에는 락을 잡고 있지 않음
+ */
+public class ChunkThrottleListener implements ChunkListener {
+
+    private final long pauseMillis;
+
+    public ChunkThrottleListener(long pauseMillis) {
+        this.pauseMillis = pauseMillis;
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        if (pauseMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.http200ok.finbuddy.batch.step;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ItemStreamSupport;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * ID 기준 키셋 페이징 ItemReader
+ * - OFFSET 없이 "마지막으로 읽은 ID 이후"만 조회하므로, 처리 중 대상 행의 상태가 바뀌어도 건너뛰는 행이 없음
+ * - 마지막으로 읽은 ID를 ExecutionContext에 저장하여 재시작 시 이어서 처리
+ */
+public class KeysetPagingItemReader<T> extends ItemStreamSupport implements ItemStreamReader<T> {
+
+    private static final String LAST_ID_KEY = "lastId";
+
+    // (마지막 ID, 페이지 크기) -> ID 오름차순 페이지
+    private final BiFunction<Long, Integer, List<T>> pageLoader;
+    private final ToLongFunction<T> idExtractor;
+    private final int pageSize;
+    private final long startAfterId;
+
+    private long lastId;
+    private Iterator<T> currentPage;
+    private boolean lastPage;
+
+    public KeysetPagingItemReader(String name, BiFunction<Long, Integer, List<T>> pageLoader,
+                                  ToLongFunction<T> idExtractor, int pageSize, long startAfterId) {
+        setName(name);
+        this.pageLoader = pageLoader;
+        this.idExtractor = idExtractor;
+        this.pageSize = pageSize;
+        this.startAfterId = startAfterId;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) {
+        String key = getExecutionContextKey(LAST_ID_KEY);
+        lastId = executionContext.containsKey(key) ? executionContext.getLong(key) : startAfterId;
+        currentPage = null;
+        lastPage = false;
+    }
+
+    @Override
+    public T read() {
+        if (currentPage == null || !currentPage.hasNext()) {
+            if (lastPage) {
+                return null;
+            }
+            List<T> page = pageLoader.apply(lastId, pageSize);
+            lastPage = page.size() < pageSize;
+            if (page.isEmpty()) {
+                return null;
+            }
+            currentPage = page.iterator();
+        }
+
+        T item = currentPage.next();
+        lastId = idExtractor.applyAsLong(item);
+        return item;
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) {
+        executionContext.putLong(getExecutionContextKey(LAST_ID_KEY), lastId);
+    }
+}
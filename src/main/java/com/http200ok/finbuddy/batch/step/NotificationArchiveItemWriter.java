@@ -0,0 +1,26 @@
+package com.http200ok.finbuddy.batch.step;
+
+import com.http200ok.finbuddy.notification.repository.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 오래된 읽은 알림 보관 Writer
+ * - 청크 트랜잭션 안에서 보관 테이블로 복사 후 원본 삭제 (둘 중 하나만 반영되는 일 없음)
+ */
+@RequiredArgsConstructor
+public class NotificationArchiveItemWriter implements ItemWriter<Long> {
+
+    private final NotificationRepository notificationRepository;
+
+    @Override
+    public void write(Chunk<? extends Long> chunk) {
+        List<Long> ids = List.copyOf(chunk.getItems());
+        notificationRepository.copyToArchiveByIds(ids, LocalDateTime.now());
+        notificationRepository.deleteAllByIdsInBulk(ids);
+    }
+}
@@ -0,0 +1,23 @@
+package com.http200ok.finbuddy.batch.step;
+
+import com.http200ok.finbuddy.notification.repository.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+
+import java.util.List;
+
+/**
+ * 소프트 삭제된 알림 물리 삭제 Writer
+ * - 청크의 알림 ID를 DELETE 한 번으로 삭제
+ */
+@RequiredArgsConstructor
+public class NotificationPurgeItemWriter implements ItemWriter<Long> {
+
+    private final NotificationRepository notificationRepository;
+
+    @Override
+    public void write(Chunk<? extends Long> chunk) {
+        notificationRepository.deleteAllByIdsInBulk(List.copyOf(chunk.getItems()));
+    }
+}
@@ -0,0 +1,51 @@
+package com.http200ok.finbuddy.batch.step;
+
+import com.http200ok.finbuddy.transaction.repository.MonthlyTransactionRollupRepository;
+import com.http200ok.finbuddy.transaction.service.TransactionRollupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 월별 거래 집계 재생성 Tasklet
+ * - 회원을 ID 순으로 일정 개수씩 나누어 처리 (실행 1회 = 트랜잭션 1개)
+ * - 마지막으로 처리한 회원 ID를 ExecutionContext에 저장하여 재시작 시 이어서 처리
+ */
+@Component
+@RequiredArgsConstructor
+public class RebuildTransactionRollupTasklet implements Tasklet {
+
+    private static final int MEMBER_PAGE_SIZE = 100;
+    private static final String LAST_MEMBER_ID_KEY = "lastMemberId";
+
+    private final MonthlyTransactionRollupRepository rollupRepository;
+    private final TransactionRollupService transactionRollupService;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+        ExecutionContext executionContext = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+        long lastMemberId = executionContext.getLong(LAST_MEMBER_ID_KEY, 0L);
+
+        List<Long> memberIds = rollupRepository.findMemberIdsWithAccountsAfter(lastMemberId, MEMBER_PAGE_SIZE);
+        if (memberIds.isEmpty()) {
+            System.out.println("월별 거래 집계 재생성 완료. 마지막 회원 ID: " + lastMemberId);
+            return RepeatStatus.FINISHED;
+        }
+
+        for (Long memberId : memberIds) {
+            transactionRollupService.rebuildForMember(memberId);
+        }
+
+        executionContext.putLong(LAST_MEMBER_ID_KEY, memberIds.getLast());
+        contribution.incrementWriteCount(memberIds.size());
+        System.out.println("월별 거래 집계 재생성 - 회원 " + memberIds.size() + "명 처리 (마지막 회원 ID: " + memberIds.getLast() + ")");
+
+        return RepeatStatus.CONTINUABLE;
+    }
+}
@@ -15,6 +15,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -62,7 +63,8 @@ public class BudgetServiceImpl implements BudgetService {
     @Override
     @Transactional(readOnly = true)
     public Optional<BudgetResponseDto> getCurrentMonthBudgetDto(Long memberId) {
-        Long totalSpending = transactionRepository.getTotalSpendingForCurrentMonth(memberId);
+        LocalDateTime monthStart = LocalDate.now().withDayOfMonth(1).atStartOfDay();
+        Long totalSpending = transactionRepository.getTotalSpendingForCurrentMonth(memberId, monthStart, monthStart.plusMonths(1));
         return getCurrentMonthBudget(memberId)
                 .map(budget -> BudgetResponseDto.fromEntity(budget, totalSpending != null ? totalSpending : 0L));
     }
@@ -85,7 +87,8 @@ public class BudgetServiceImpl implements BudgetService {
                         return;
                     }
 
-                    Long totalSpending = transactionRepository.getTotalSpendingForCurrentMonth(memberId);
+                    LocalDateTime monthStart = LocalDate.now().withDayOfMonth(1).atStartOfDay();
+                    Long totalSpending = transactionRepository.getTotalSpendingForCurrentMonth(memberId, monthStart, monthStart.plusMonths(1));
                     Long budgetLimit = budget.getAmount();
 
                     if (totalSpending > budgetLimit) {
@@ -107,13 +110,11 @@ public class BudgetServiceImpl implements BudgetService {
     @Override
     @Transactional(readOnly = true)
     public List<CheckingAccountTransactionResponseDto> getLatestTransactionsForCurrentMonth(Long memberId) {
-        // 현재 날짜 가져오기
-        LocalDate now = LocalDate.now();
-        int currentYear = now.getYear();
-        int currentMonth = now.getMonthValue();
+        // 이번 달 1일 0시 ~ 다음 달 1일 0시
+        LocalDateTime monthStart = LocalDate.now().withDayOfMonth(1).atStartOfDay();
 
         // 해당 월의 거래 내역 조회
-        return transactionRepository.findLatestTransactionsForUserCheckingAccountsInMonth(memberId, currentYear, currentMonth)
+        return transactionRepository.findLatestTransactionsForUserCheckingAccountsInMonth(memberId, monthStart, monthStart.plusMonths(1))
                 .stream()
                 .map(CheckingAccountTransactionResponseDto::new)
                 .collect(Collectors.toList());
@@ -0,0 +1,18 @@
+package com.http200ok.finbuddy.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+// 커서 기반 페이지 응답 (COUNT 쿼리 없이 다음 페이지 존재 여부만 제공)
+@Getter
+@Setter
+@AllArgsConstructor
+public class CursorPageResponseDto<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor; // 다음 페이지 요청 시 전달, 마지막 페이지면 null
+}
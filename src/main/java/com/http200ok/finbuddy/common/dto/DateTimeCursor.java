@@ -0,0 +1,35 @@
+package com.http200ok.finbuddy.common.dto;
+
+import com.http200ok.finbuddy.common.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * (일시, ID) 기반 키셋 페이지 커서
+ * - 클라이언트에는 Base64(URL-safe) 문자열로만 노출
+ * - 일시 내림차순, 같은 일시 안에서는 ID 내림차순 정렬을 전제로 함
+ */
+public record DateTimeCursor(LocalDateTime dateTime, Long id) {
+
+    private static final String DELIMITER = "|";
+
+    public String encode() {
+        String raw = dateTime + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static DateTimeCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            return new DateTimeCursor(
+                    LocalDateTime.parse(raw.substring(0, index)),
+                    Long.parseLong(raw.substring(index + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException("유효하지 않은 커서입니다", e);
+        }
+    }
+}
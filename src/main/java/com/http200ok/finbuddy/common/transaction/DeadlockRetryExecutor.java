@@ -0,0 +1,71 @@
+package com.http200ok.finbuddy.common.transaction;
+
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 데드락/락 대기 시간 초과 시 트랜잭션을 처음부터 다시 실행
+ * - 매 시도마다 새 트랜잭션(REQUIRES_NEW)으로 실행 (rollback-only가 된 트랜잭션을 재사용하지 않음)
+ * - 재시도 사이에 짧은 랜덤 대기를 두어 같은 트랜잭션끼리 다시 충돌하지 않도록 함
+ * - 락 대기 시간 제한(innodb_lock_wait_timeout)은 이 트랜잭션의 커넥션에만 적용하고 끝나면 서버 기본값으로 복원
+ *   (MySQL은 JPA lock.timeout 힌트를 무시하므로 세션 변수로 제한, 배치/정리 작업 커넥션에는 영향 없음)
+ */
+@Component
+public class DeadlockRetryExecutor {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long BASE_BACKOFF_MILLIS = 20;
+    private static final int LOCK_WAIT_TIMEOUT_SECONDS = 5;
+
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+
+    public DeadlockRetryExecutor(PlatformTransactionManager transactionManager, JdbcTemplate jdbcTemplate) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public <T> T execute(TransactionCallback<T> action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> executeWithLockWaitTimeout(action, status));
+            } catch (PessimisticLockingFailureException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    throw e;
+                }
+                System.out.println("락 충돌로 트랜잭션 재시도 (" + attempt + "/" + MAX_ATTEMPTS + "): " + e.getMessage());
+                backoff(attempt);
+            }
+        }
+    }
+
+    // 트랜잭션에 바인딩된 커넥션에서 실행되므로 세션 변수가 이 트랜잭션에만 적용됨
+    private <T> T executeWithLockWaitTimeout(TransactionCallback<T> action, TransactionStatus status) {
+        jdbcTemplate.execute("SET SESSION innodb_lock_wait_timeout = " + LOCK_WAIT_TIMEOUT_SECONDS);
+        try {
+            return action.doInTransaction(status);
+        } finally {
+            // 커넥션이 풀로 반환되기 전에 서버 기본값으로 복원
+            jdbcTemplate.execute("SET SESSION innodb_lock_wait_timeout = DEFAULT");
+        }
+    }
+
+    private void backoff(int attempt) {
+        long millis = BASE_BACKOFF_MILLIS * attempt + ThreadLocalRandom.current().nextLong(BASE_BACKOFF_MILLIS);
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("트랜잭션 재시도 대기 중 중단되었습니다", e);
+        }
+    }
+}
@@ -11,4 +11,6 @@ public interface AccountValidator {
     Account validateAndGetAccountWithLock(Long accountId, Long memberId);
     // 은행명과 계좌번호 검증 - 비관적 락 사용
     Account validateAndGetBankAccountWithLock(String bankName, String accountNumber);
+    // 출금/입금 계좌 검증 - 계좌 ID 오름차순으로 비관적 락 획득 (교차 이체 데드락 방지)
+    TransferAccounts validateAndGetTransferAccountsWithLock(Long fromAccountId, Long memberId, String toBankName, String toAccountNumber);
 }
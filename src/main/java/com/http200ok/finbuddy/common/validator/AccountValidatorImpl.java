@@ -2,6 +2,7 @@ package com.http200ok.finbuddy.common.validator;
 
 import com.http200ok.finbuddy.account.domain.Account;
 import com.http200ok.finbuddy.account.repository.AccountRepository;
+import com.http200ok.finbuddy.common.exception.InvalidTransactionException;
 import com.http200ok.finbuddy.common.exception.UnauthorizedAccessException;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -54,4 +55,32 @@ public class AccountValidatorImpl implements AccountValidator{
                 .orElseThrow(() -> new EntityNotFoundException("계좌를 찾을 수 없거나 은행명과 계좌번호가 일치하지 않습니다"));
     }
 
+    @Override
+    public TransferAccounts validateAndGetTransferAccountsWithLock(Long fromAccountId, Long memberId, String toBankName, String toAccountNumber) {
+        // 입금 계좌 ID를 락 없이 먼저 조회
+        Long toAccountId = accountRepository.findIdByBankNameAndAccountNumber(toBankName, toAccountNumber)
+                .orElseThrow(() -> new EntityNotFoundException("계좌를 찾을 수 없거나 은행명과 계좌번호가 일치하지 않습니다"));
+
+        if (fromAccountId.equals(toAccountId)) {
+            throw new InvalidTransactionException("출금계좌와 입금계좌가 동일합니다");
+        }
+
+        // 이체 방향과 관계없이 항상 ID가 작은 계좌부터 락 획득 (A->B, B->A 동시 이체 시 데드락 방지)
+        Account first = lockAccount(Math.min(fromAccountId, toAccountId));
+        Account second = lockAccount(Math.max(fromAccountId, toAccountId));
+        Account fromAccount = first.getId().equals(fromAccountId) ? first : second;
+        Account toAccount = first.getId().equals(fromAccountId) ? second : first;
+
+        if (!fromAccount.getMember().getId().equals(memberId)) {
+            throw new UnauthorizedAccessException("Member " + memberId + " is not authorized to access account " + fromAccountId);
+        }
+
+        return new TransferAccounts(fromAccount, toAccount);
+    }
+
+    private Account lockAccount(Long accountId) {
+        return accountRepository.findByIdWithPessimisticLock(accountId)
+                .orElseThrow(() -> new EntityNotFoundException("Account not found with id: " + accountId));
+    }
+
 }
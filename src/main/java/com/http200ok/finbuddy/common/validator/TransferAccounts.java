@@ -0,0 +1,7 @@
+package com.http200ok.finbuddy.common.validator;
+
+import com.http200ok.finbuddy.account.domain.Account;
+
+// 비관적 락을 획득한 출금/입금 계좌 쌍
+public record TransferAccounts(Account fromAccount, Account toAccount) {
+}
@@ -0,0 +1,24 @@
+package com.http200ok.finbuddy.config;
+
+import com.http200ok.finbuddy.notification.publisher.RedisNotificationPublisher;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+@ConditionalOnProperty(name = "notification.redis.enabled", havingValue = "true")
+public class RedisConfig {
+
+    // 알림 채널 구독 (모든 노드가 같은 채널을 구독)
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       RedisNotificationPublisher redisNotificationPublisher) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(redisNotificationPublisher, new ChannelTopic(RedisNotificationPublisher.CHANNEL));
+        return container;
+    }
+}
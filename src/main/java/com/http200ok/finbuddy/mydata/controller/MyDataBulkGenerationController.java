@@ -0,0 +1,44 @@
+package com.http200ok.finbuddy.mydata.controller;
+
+import com.http200ok.finbuddy.mydata.dto.MyDataBulkGenerationRequest;
+import com.http200ok.finbuddy.mydata.service.MyDataGenerationJobService;
+import com.http200ok.finbuddy.security.CustomUserDetails;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * 부하 테스트용 MyData 대량 생성 컨트롤러
+ * - 다른 회원의 계좌/거래내역을 삭제 후 재생성하므로 loadtest 프로필에서만 등록 (운영 환경에서는 엔드포인트 자체가 없음)
+ */
+@RestController
+@Profile("loadtest")
+@RequestMapping("/api/mydata")
+@RequiredArgsConstructor
+public class MyDataBulkGenerationController {
+
+    private final MyDataGenerationJobService myDataGenerationJobService;
+
+    /**
+     * 여러 회원의 MyData 더미 데이터 생성을 비동기로 일괄 접수합니다. (부하 테스트용 대량 온보딩)
+     *
+     * @param request 대상 회원 ID 목록
+     * @return 작업 ID (진행 상황은 접수한 회원만 /jobs/{jobId}로 조회)
+     */
+    @PostMapping("/generate/bulk")
+    public ResponseEntity<Map<String, String>> generateDataForMembers(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                                      @RequestBody MyDataBulkGenerationRequest request) {
+        if (request.getMemberIds() == null || request.getMemberIds().isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        String jobId = myDataGenerationJobService.submitGeneration(userDetails.getMemberId(), request.getMemberIds());
+        return ResponseEntity.accepted().body(Map.of("jobId", jobId));
+    }
+}
@@ -1,7 +1,9 @@
 package com.http200ok.finbuddy.mydata.controller;
 
 import com.http200ok.finbuddy.mydata.dto.MyDataDeletionResult;
+import com.http200ok.finbuddy.mydata.dto.MyDataGenerationJobStatus;
 import com.http200ok.finbuddy.mydata.dto.MyDataGenerationResult;
+import com.http200ok.finbuddy.mydata.service.MyDataGenerationJobService;
 import com.http200ok.finbuddy.mydata.service.MyDataService;
 import com.http200ok.finbuddy.security.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
@@ -9,6 +11,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * MyData 더미 데이터 생성 및 관리 컨트롤러
  */
@@ -18,6 +23,7 @@ import org.springframework.web.bind.annotation.*;
 public class MyDataController {
 
     private final MyDataService myDataService;
+    private final MyDataGenerationJobService myDataGenerationJobService;
 
     /**
      * 특정 회원의 MyData 더미 데이터를 생성합니다.
@@ -35,6 +41,29 @@ public class MyDataController {
         }
     }
 
+    /**
+     * 로그인한 회원의 MyData 더미 데이터 생성을 비동기로 접수합니다.
+     * @return 작업 ID (진행 상황은 /jobs/{jobId}로 조회)
+     */
+    @PostMapping("/generate/async")
+    public ResponseEntity<Map<String, String>> generateDataForMemberAsync(@AuthenticationPrincipal CustomUserDetails userDetails) {
+        Long memberId = userDetails.getMemberId();
+        String jobId = myDataGenerationJobService.submitGeneration(memberId, List.of(memberId));
+        return ResponseEntity.accepted().body(Map.of("jobId", jobId));
+    }
+
+    /**
+     * 로그인한 회원이 접수한 비동기 데이터 생성 작업의 진행 상황을 조회합니다.
+     *
+     * @param jobId 작업 ID
+     * @return 작업 상태 및 회원별 생성 결과 (다른 회원의 작업이면 404)
+     */
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<MyDataGenerationJobStatus> getGenerationJobStatus(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                                                            @PathVariable("jobId") String jobId) {
+        return ResponseEntity.ok(myDataGenerationJobService.getJobStatus(jobId, userDetails.getMemberId()));
+    }
+
     /**
      * 특정 회원의 기존 MyData 더미 데이터를 삭제합니다.
      *
@@ -0,0 +1,10 @@
+package com.http200ok.finbuddy.mydata.domain;
+
+/**
+ * 비동기 MyData 생성 작업 상태
+ */
+public enum MyDataGenerationJobState {
+    PENDING,    // 접수됨
+    RUNNING,    // 생성 중
+    COMPLETED   // 모든 회원 처리 완료 (일부 실패 포함)
+}
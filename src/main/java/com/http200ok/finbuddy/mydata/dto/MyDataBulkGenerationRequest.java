@@ -0,0 +1,15 @@
+package com.http200ok.finbuddy.mydata.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 여러 회원의 MyData 일괄 생성 요청
+ */
+@Getter
+@NoArgsConstructor
+public class MyDataBulkGenerationRequest {
+    private List<Long> memberIds;
+}
@@ -0,0 +1,24 @@
+package com.http200ok.finbuddy.mydata.dto;
+
+import com.http200ok.finbuddy.mydata.domain.MyDataGenerationJobState;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 비동기 MyData 생성 작업 진행 상황을 담는 클래스
+ */
+@Getter
+@AllArgsConstructor
+public class MyDataGenerationJobStatus {
+    private String jobId;
+    private MyDataGenerationJobState state;
+    private int totalMembers;
+    private int succeededMembers;
+    private int failedMembers;
+    private LocalDateTime submittedAt;
+    private LocalDateTime finishedAt;
+    private List<MyDataGenerationResult> results;
+}
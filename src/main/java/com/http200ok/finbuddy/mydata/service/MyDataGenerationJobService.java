@@ -0,0 +1,30 @@
+package com.http200ok.finbuddy.mydata.service;
+
+import com.http200ok.finbuddy.mydata.dto.MyDataGenerationJobStatus;
+
+import java.util.List;
+
+/**
+ * MyData 더미 데이터 비동기 생성 작업 관리 서비스
+ */
+public interface MyDataGenerationJobService {
+
+    /**
+     * 회원 목록에 대한 데이터 생성 작업을 접수하고 바로 작업 ID를 반환합니다.
+     *
+     * @param requesterId 작업을 접수한 회원 ID (진행 상황은 이 회원만 조회 가능)
+     * @param memberIds 대상 회원 ID 목록
+     * @return 작업 ID
+     */
+    String submitGeneration(Long requesterId, List<Long> memberIds);
+
+    /**
+     * 작업 진행 상황을 조회합니다.
+     * 다른 회원이 접수한 작업은 존재 여부를 노출하지 않도록 없는 작업과 같이 처리합니다.
+     *
+     * @param jobId 작업 ID
+     * @param memberId 조회하는 회원 ID
+     * @return 작업 상태
+     */
+    MyDataGenerationJobStatus getJobStatus(String jobId, Long memberId);
+}
@@ -0,0 +1,180 @@
+package com.http200ok.finbuddy.mydata.service;
+
+import com.http200ok.finbuddy.mydata.domain.MyDataGenerationJobState;
+import com.http200ok.finbuddy.mydata.dto.MyDataGenerationJobStatus;
+import com.http200ok.finbuddy.mydata.dto.MyDataGenerationResult;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Service
+@RequiredArgsConstructor
+public class MyDataGenerationJobServiceImpl implements MyDataGenerationJobService {
+
+    // 완료된 작업 상태 보관 시간
+    private static final Duration FINISHED_JOB_RETENTION = Duration.ofHours(1);
+
+    private final MyDataService myDataService;
+    private final PlatformTransactionManager transactionManager;
+
+    // 동시에 생성할 최대 회원 수 (0 이하이면 CPU 코어 수, DB 커넥션 풀 크기보다 작게 유지)
+    @Value("${mydata.generation.max-concurrency:0}")
+    private int maxConcurrency;
+
+    private final Map<String, GenerationJob> jobs = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private Semaphore permits;
+    private TransactionTemplate memberTransactionTemplate;
+
+    @PostConstruct
+    void init() {
+        int concurrency = maxConcurrency > 0 ? maxConcurrency : Runtime.getRuntime().availableProcessors();
+        permits = new Semaphore(concurrency);
+
+        // 회원마다 독립된 트랜잭션으로 생성 (한 회원 실패가 다른 회원에 영향 없음)
+        memberTransactionTemplate = new TransactionTemplate(transactionManager);
+        memberTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public String submitGeneration(Long requesterId, List<Long> memberIds) {
+        evictFinishedJobs();
+
+        List<Long> targets = memberIds.stream().distinct().toList();
+        GenerationJob job = new GenerationJob(UUID.randomUUID().toString(), requesterId, targets.size());
+        jobs.put(job.jobId, job);
+
+        System.out.println("MyData 생성 작업 접수: " + job.jobId + " (회원 " + targets.size() + "명)");
+
+        if (targets.isEmpty()) {
+            job.finish();
+            return job.jobId;
+        }
+
+        // 가상 스레드는 회원마다 하나씩 만들고, 실제 동시 실행 수는 세마포어로 제한
+        for (Long memberId : targets) {
+            executor.submit(() -> generateForMember(job, memberId));
+        }
+        return job.jobId;
+    }
+
+    @Override
+    public MyDataGenerationJobStatus getJobStatus(String jobId, Long memberId) {
+        GenerationJob job = jobs.get(jobId);
+        // 다른 회원의 작업도 404로 응답 (작업 ID 존재 여부 노출 방지)
+        if (job == null || !job.requesterId.equals(memberId)) {
+            throw new EntityNotFoundException("MyData 생성 작업을 찾을 수 없습니다: " + jobId);
+        }
+        return job.toStatus();
+    }
+
+    private void generateForMember(GenerationJob job, Long memberId) {
+        MyDataGenerationResult result;
+        try {
+            permits.acquire();
+            try {
+                job.state = MyDataGenerationJobState.RUNNING;
+                result = memberTransactionTemplate.execute(status -> {
+                    MyDataGenerationResult generated = myDataService.generateDummyDataForMember(memberId);
+                    // 생성 실패 시 일부만 만들어진 계좌/거래내역이 커밋되지 않도록 롤백
+                    if (!generated.isSuccess()) {
+                        status.setRollbackOnly();
+                    }
+                    return generated;
+                });
+            } finally {
+                permits.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result = failedResult(memberId, "작업이 중단되었습니다");
+        } catch (Exception e) {
+            System.err.println("회원 ID " + memberId + " 데이터 생성 트랜잭션 오류: " + e.getMessage());
+            result = failedResult(memberId, "오류 발생: " + e.getMessage());
+        }
+        job.record(result);
+    }
+
+    private MyDataGenerationResult failedResult(Long memberId, String message) {
+        return MyDataGenerationResult.createResult(memberId, null, 0, 0, 0, 0, false, message);
+    }
+
+    private void evictFinishedJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minus(FINISHED_JOB_RETENTION);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(threshold));
+    }
+
+    /**
+     * 작업별 진행 상황 (여러 가상 스레드에서 동시에 갱신)
+     */
+    private static class GenerationJob {
+        private final String jobId;
+        private final Long requesterId;
+        private final int totalMembers;
+        private final LocalDateTime submittedAt = LocalDateTime.now();
+        private final AtomicInteger succeeded = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final AtomicInteger processed = new AtomicInteger();
+        private final ConcurrentLinkedQueue<MyDataGenerationResult> results = new ConcurrentLinkedQueue<>();
+        private volatile MyDataGenerationJobState state = MyDataGenerationJobState.PENDING;
+        private volatile LocalDateTime finishedAt;
+
+        private GenerationJob(String jobId, Long requesterId, int totalMembers) {
+            this.jobId = jobId;
+            this.requesterId = requesterId;
+            this.totalMembers = totalMembers;
+        }
+
+        private void record(MyDataGenerationResult result) {
+            results.add(result);
+            (result.isSuccess() ? succeeded : failed).incrementAndGet();
+            if (processed.incrementAndGet() == totalMembers) {
+                finish();
+            }
+        }
+
+        private void finish() {
+            finishedAt = LocalDateTime.now();
+            state = MyDataGenerationJobState.COMPLETED;
+            System.out.println("MyData 생성 작업 완료: " + jobId + " (성공 " + succeeded.get() + ", 실패 " + failed.get() + ")");
+        }
+
+        private MyDataGenerationJobStatus toStatus() {
+            return new MyDataGenerationJobStatus(
+                    jobId,
+                    state,
+                    totalMembers,
+                    succeeded.get(),
+                    failed.get(),
+                    submittedAt,
+                    finishedAt,
+                    new ArrayList<>(results)
+            );
+        }
+    }
+}
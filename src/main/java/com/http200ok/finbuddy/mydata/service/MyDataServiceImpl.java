@@ -15,8 +15,11 @@ import com.http200ok.finbuddy.product.repository.CheckingProductRepository;
 import com.http200ok.finbuddy.product.repository.DepositProductRepository;
 import com.http200ok.finbuddy.product.repository.SavingProductRepository;
 import com.http200ok.finbuddy.transaction.domain.Transaction;
+import com.http200ok.finbuddy.transaction.repository.TransactionBulkRepository;
 import com.http200ok.finbuddy.transaction.repository.TransactionRepository;
 import com.http200ok.finbuddy.transaction.service.TransactionFixService;
+import com.http200ok.finbuddy.transaction.service.TransactionRollupService;
+import com.http200ok.finbuddy.transfer.repository.AutoTransferRepository;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -28,7 +31,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.*;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 @Service
@@ -43,13 +46,16 @@ public class MyDataServiceImpl implements MyDataService {
     private final SavingProductRepository savingProductRepository;
     private final CategoryRepository categoryRepository;
     private final TransactionRepository transactionRepository;
+    private final TransactionBulkRepository transactionBulkRepository;
+    private final TransactionRollupService transactionRollupService;
     private final CheckingProductRepository checkingProductRepository;
+    private final AutoTransferRepository autoTransferRepository;
     private final EntityManager entityManager;
     private final TransactionTemplate transactionTemplate;
     private final PasswordEncoder passwordEncoder;
 
-    // 가게 이름 목록
-    private final Map<Long, List<String>> categoryStores = new HashMap<>();
+    // 가게 이름 목록 (비동기 생성 작업에서 여러 스레드가 동시에 접근)
+    private final Map<Long, List<String>> categoryStores = new ConcurrentHashMap<>();
 
     // 지출/수입 거래 유형 (1: 입금, 2: 출금)
     private static final int INCOME_TYPE = 1;
@@ -58,6 +64,9 @@ public class MyDataServiceImpl implements MyDataService {
     // 계좌 최소 잔액 설정
     private static final long MINIMUM_MAIN_BALANCE = 500000; // 메인 계좌 최소 잔액 50만원
 
+    // 거래내역 삭제 시 한 번에 삭제할 최대 건수
+    private static final int DELETE_CHUNK_SIZE = 5000;
+
     @Override
     @Transactional
     public MyDataGenerationResult generateDummyDataForMember(Long memberId) {
@@ -92,6 +101,9 @@ public class MyDataServiceImpl implements MyDataService {
             System.out.println("모든 거래내역 검증 및 수정 시작");
             validateAndFixAllTransactions(checkingAccounts, depositAccounts, savingAccounts);
 
+            // 생성/수정된 거래내역으로 월별 거래 집계 재생성
+            transactionRollupService.rebuildForMember(member.getId());
+
             // 5. 모든 계좌의 최종 잔액 확인
             List<Account> allAccounts = new ArrayList<>();
             allAccounts.addAll(checkingAccounts);
@@ -153,38 +165,33 @@ public class MyDataServiceImpl implements MyDataService {
     }
 
     @Override
-    @Transactional
     public MyDataDeletionResult deleteExistingDataForMember(Long memberId) {
         try {
             Member member = memberRepository.findById(memberId)
                     .orElseThrow(() -> new RuntimeException("회원을 찾을 수 없습니다: " + memberId));
 
-            // 회원의 기존 계좌 찾기
-            List<Account> existingAccounts = accountRepository.findByMemberId(memberId);
-            int accountCount = existingAccounts.size();
-            AtomicInteger transactionCount = new AtomicInteger();
-
-            // 계좌별 거래내역 삭제 - 별도 트랜잭션으로 처리
-            for (Account account : existingAccounts) {
-                final Long accountId = account.getId();
-
-                // 트랜잭션 템플릿으로 별도 트랜잭션에서 실행
-                transactionTemplate.execute(status -> {
-                    try {
-                        List<Transaction> transactions = transactionRepository.findByAccountId(accountId);
-                        transactionCount.addAndGet(transactions.size());
-                        transactionRepository.deleteByAccountId(accountId);
-                        return null;
-                    } catch (Exception e) {
-                        System.err.println("계좌 ID " + accountId + "의 거래내역 삭제 중 오류: " + e.getMessage());
-                        status.setRollbackOnly();
-                        return null;
-                    }
-                });
+            // 회원의 기존 계좌 ID만 조회 (엔티티 로딩 없음)
+            List<Long> accountIds = accountRepository.findIdsByMemberId(memberId);
+            int transactionCount = 0;
+
+            // 거래내역을 청크 단위 벌크 DELETE로 삭제 - 청크마다 별도 트랜잭션으로 커밋
+            if (!accountIds.isEmpty()) {
+                int deleted;
+                do {
+                    deleted = Objects.requireNonNullElse(transactionTemplate.execute(status ->
+                            transactionRepository.deleteChunkByAccountIds(accountIds, DELETE_CHUNK_SIZE)), 0);
+                    transactionCount += deleted;
+                } while (deleted == DELETE_CHUNK_SIZE);
             }
 
-            // 계좌 삭제
-            accountRepository.deleteByMemberId(memberId);
+            // 월별 거래 집계, 자동이체, 계좌 삭제 (Account.transactions cascade를 거치지 않는 벌크 DELETE)
+            int accountCount = Objects.requireNonNullElse(transactionTemplate.execute(status -> {
+                transactionRollupService.deleteForMember(memberId);
+                if (!accountIds.isEmpty()) {
+                    autoTransferRepository.deleteAllByAccountIds(accountIds);
+                }
+                return accountRepository.deleteAllByMemberIdInBulk(memberId);
+            }), 0);
 
             System.out.println("회원 " + member.getName() + "(ID: " + memberId + ")의 기존 데이터 삭제 완료. 계좌 "
                     + accountCount + "개, 거래내역 " + transactionCount + "개 삭제됨");
@@ -193,7 +200,7 @@ public class MyDataServiceImpl implements MyDataService {
                     memberId,
                     member.getName(),
                     accountCount,
-                    transactionCount.get(),
+                    transactionCount,
                     true,
                     "데이터 삭제 완료"
             );
@@ -882,14 +889,14 @@ public class MyDataServiceImpl implements MyDataService {
                 tx.setUpdatedBalance(runningBalance);
             }
 
-            // 최종 저장
-            for (Transaction tx : finalTransactions) {
-                transactionRepository.save(tx);
-            }
+            // 최종 저장 (JDBC 배치 insert)
+            bulkInsertTransactions(finalTransactions);
+
+            // 중복 제거로 제외된 거래도 계좌 컬렉션에서 제거 (flush 시 cascade insert 방지)
+            detachFromAccounts(transactions);
 
-            // 최종 잔액 업데이트
+            // 최종 잔액 업데이트 (영속 상태이므로 flush 시 한 번만 UPDATE)
             mainAccount.setBalance(runningBalance);
-            accountRepository.save(mainAccount);
 
             System.out.println("메인 계좌 ID " + mainAccount.getId() + ": " + finalTransactions.size() +
                     "개 거래내역 생성 완료. 최종 잔액: " + runningBalance + "원");
@@ -918,6 +925,10 @@ public class MyDataServiceImpl implements MyDataService {
             allAccounts.addAll(depositAccounts);
             allAccounts.addAll(savingAccounts);
 
+            // 메인 계좌 잔액은 메모리에서 추적하고, 거래내역은 모아서 마지막에 한 번에 저장
+            long mainAccountBalance = mainAccount.getBalance();
+            List<Transaction> pendingTransactions = new ArrayList<>();
+
             // 2. 다른 입출금 계좌와의 이체
             System.out.println("입출금 계좌 간 이체 거래 생성");
             for (int i = 1; i < checkingAccounts.size(); i++) {
@@ -929,10 +940,6 @@ public class MyDataServiceImpl implements MyDataService {
                     long transferAmount = randomAmount(30, 100) * 1000;
                     LocalDateTime transferDate = randomDateWithinLastMonth();
 
-                    // 메인 계좌 최신 상태 조회
-                    mainAccount = accountRepository.findById(mainAccount.getId()).orElse(mainAccount);
-                    long mainAccountBalance = mainAccount.getBalance();
-
                     // 최소 잔액 유지 확인 - 잔액 부족시 추가 입금
                     if (mainAccountBalance - transferAmount < MINIMUM_MAIN_BALANCE) {
                         // 잔액 부족 시 추가 입금 처리
@@ -949,13 +956,11 @@ public class MyDataServiceImpl implements MyDataService {
                                 "이체 준비금",
                                 mainAccountBalance + additionalAmount
                         );
-                        transactionRepository.save(additionalTx);
+                        pendingTransactions.add(additionalTx);
                         totalTransactions++;
 
                         // 메인 계좌 잔액 업데이트
                         mainAccountBalance += additionalAmount;
-                        mainAccount.setBalance(mainAccountBalance);
-                        accountRepository.save(mainAccount);
 
                         System.out.println("이체 준비금 입금: " + additionalAmount + "원, 잔액: " + mainAccountBalance + "원");
                     }
@@ -973,15 +978,10 @@ public class MyDataServiceImpl implements MyDataService {
                             targetAccount.getMember().getName(), // 계좌 주인 이름
                             mainAccountBalance // 출금 후 잔액
                     );
-                    transactionRepository.save(outTx);
+                    pendingTransactions.add(outTx);
                     totalTransactions++;
 
-                    // 메인 계좌 잔액 업데이트
-                    mainAccount.setBalance(mainAccountBalance);
-                    accountRepository.save(mainAccount);
-
-                    // 대상 계좌 최신 상태 조회 및 입금
-                    targetAccount = accountRepository.findById(targetAccount.getId()).orElse(targetAccount);
+                    // 대상 계좌 입금
                     long targetAccountBalance = targetAccount.getBalance() + transferAmount;
 
                     // 입금 거래 생성 - 상대방 이름으로 계좌 주인 표시
@@ -994,12 +994,11 @@ public class MyDataServiceImpl implements MyDataService {
                             mainAccount.getMember().getName(), // 계좌 주인 이름
                             targetAccountBalance // 입금 후 잔액
                     );
-                    transactionRepository.save(inTx);
+                    pendingTransactions.add(inTx);
                     totalTransactions++;
 
                     // 대상 계좌 잔액 업데이트
                     targetAccount.setBalance(targetAccountBalance);
-                    accountRepository.save(targetAccount);
 
                     System.out.println("이체 완료: " + mainAccount.getMember().getName() + " -> " +
                             targetAccount.getMember().getName() + ", 금액: " + transferAmount + "원");
@@ -1013,10 +1012,6 @@ public class MyDataServiceImpl implements MyDataService {
                 long depositAmount = depositAccount.getBalance();
                 LocalDateTime depositDate = depositAccount.getCreatedAt();
 
-                // 메인 계좌 최신 상태 조회
-                mainAccount = accountRepository.findById(mainAccount.getId()).orElse(mainAccount);
-                long mainAccountBalance = mainAccount.getBalance();
-
                 // 메인 계좌에 충분한 잔액이 없으면 추가 입금
                 if (mainAccountBalance < depositAmount + MINIMUM_MAIN_BALANCE) {
                     long additionalIncome = depositAmount + MINIMUM_MAIN_BALANCE - mainAccountBalance + 1000000; // 여유분 100만원
@@ -1032,13 +1027,11 @@ public class MyDataServiceImpl implements MyDataService {
                             "예금 준비금",
                             mainAccountBalance + additionalIncome
                     );
-                    transactionRepository.save(additionalIncomeTx);
+                    pendingTransactions.add(additionalIncomeTx);
                     totalTransactions++;
 
                     // 메인 계좌 잔액 업데이트
                     mainAccountBalance += additionalIncome;
-                    mainAccount.setBalance(mainAccountBalance);
-                    accountRepository.save(mainAccount);
 
                     System.out.println("예금 준비금 입금: " + additionalIncome + "원, 메인 계좌 잔액: " + mainAccountBalance + "원");
                 }
@@ -1055,13 +1048,9 @@ public class MyDataServiceImpl implements MyDataService {
                         depositAccount.getAccountName() + " 가입",
                         mainAccountBalance
                 );
-                transactionRepository.save(outTx);
+                pendingTransactions.add(outTx);
                 totalTransactions++;
 
-                // 메인 계좌 잔액 업데이트
-                mainAccount.setBalance(mainAccountBalance);
-                accountRepository.save(mainAccount);
-
                 // 예금 계좌 입금
                 long depositAccountBalance = depositAmount;
 
@@ -1074,12 +1063,11 @@ public class MyDataServiceImpl implements MyDataService {
                         "신규 예금 가입",
                         depositAccountBalance
                 );
-                transactionRepository.save(inTx);
+                pendingTransactions.add(inTx);
                 totalTransactions++;
 
                 // 예금 계좌 잔액 업데이트
                 depositAccount.setBalance(depositAccountBalance);
-                accountRepository.save(depositAccount);
 
                 System.out.println("예금 가입: " + depositAmount + "원, 계좌잔액: " + depositAccountBalance + "원");
 
@@ -1106,12 +1094,11 @@ public class MyDataServiceImpl implements MyDataService {
                             "분기 이자 지급",
                             depositAccountBalance // 이자 추가 후 잔액
                     );
-                    transactionRepository.save(interestTx);
+                    pendingTransactions.add(interestTx);
                     totalTransactions++;
 
                     // 예금 계좌 잔액 업데이트
                     depositAccount.setBalance(depositAccountBalance);
-                    accountRepository.save(depositAccount);
 
                     System.out.println("예금 이자 지급: " + interestAmount + "원, 총잔액: " + depositAccountBalance + "원");
 
@@ -1153,10 +1140,6 @@ public class MyDataServiceImpl implements MyDataService {
                     // 납입액 결정
                     long depositAmount = (i == monthsBetween - 1) ? lastDeposit : monthlyDeposit;
 
-                    // 메인 계좌 최신 상태 조회
-                    mainAccount = accountRepository.findById(mainAccount.getId()).orElse(mainAccount);
-                    long mainAccountBalance = mainAccount.getBalance();
-
                     // 메인 계좌에 충분한 잔액이 없으면 추가 입금
                     if (mainAccountBalance < depositAmount + MINIMUM_MAIN_BALANCE) {
                         long additionalIncome = depositAmount + MINIMUM_MAIN_BALANCE - mainAccountBalance + 500000; // 여유분
@@ -1172,13 +1155,11 @@ public class MyDataServiceImpl implements MyDataService {
                                 "적금 납입 준비금",
                                 mainAccountBalance + additionalIncome
                         );
-                        transactionRepository.save(additionalIncomeTx);
+                        pendingTransactions.add(additionalIncomeTx);
                         totalTransactions++;
 
                         // 메인 계좌 잔액 업데이트
                         mainAccountBalance += additionalIncome;
-                        mainAccount.setBalance(mainAccountBalance);
-                        accountRepository.save(mainAccount);
 
                         System.out.println("적금 준비금 입금: " + additionalIncome + "원, 메인 계좌 잔액: " + mainAccountBalance + "원");
                     }
@@ -1195,13 +1176,9 @@ public class MyDataServiceImpl implements MyDataService {
                             savingAccount.getAccountName() + " " + (i+1) + "회차 납입",
                             mainAccountBalance
                     );
-                    transactionRepository.save(outTx);
+                    pendingTransactions.add(outTx);
                     totalTransactions++;
 
-                    // 메인 계좌 잔액 업데이트
-                    mainAccount.setBalance(mainAccountBalance);
-                    accountRepository.save(mainAccount);
-
                     // 적금 계좌 입금
                     savingBalance += depositAmount;
 
@@ -1214,17 +1191,20 @@ public class MyDataServiceImpl implements MyDataService {
                             (i+1) + "회차 납입",
                             savingBalance
                     );
-                    transactionRepository.save(inTx);
+                    pendingTransactions.add(inTx);
                     totalTransactions++;
 
                     // 적금 계좌 잔액 업데이트
                     savingAccount.setBalance(savingBalance);
-                    accountRepository.save(savingAccount);
 
                     System.out.println("적금 납입: " + depositAmount + "원, 총잔액: " + savingBalance + "원 (" + (i+1) + "회차)");
                 }
             }
 
+            // 메인 계좌 잔액 반영 및 계좌 간 거래내역 일괄 저장 (JDBC 배치 insert)
+            mainAccount.setBalance(mainAccountBalance);
+            bulkInsertTransactions(pendingTransactions);
+
             // 5. 모든 계좌의 최종 잔액 확인 및 업데이트
             System.out.println("모든 계좌의 최종 잔액 확인 및 업데이트");
             for (Account account : allAccounts) {
@@ -1305,6 +1285,27 @@ public class MyDataServiceImpl implements MyDataService {
         }
     }
 
+    /**
+     * 생성한 거래내역을 JDBC 배치 insert로 한 번에 저장
+     * - 저장 후 계좌의 거래 컬렉션에서 제거하여 flush 시 cascade로 다시 insert되지 않도록 함
+     */
+    private void bulkInsertTransactions(List<Transaction> transactions) {
+        int inserted = transactionBulkRepository.saveAll(transactions);
+        detachFromAccounts(transactions);
+        System.out.println("거래내역 " + inserted + "개 일괄 저장 완료");
+    }
+
+    // createDummyTransaction에서 추가된 계좌-거래 연관관계 제거
+    private void detachFromAccounts(Collection<Transaction> transactions) {
+        Set<Transaction> targets = Collections.newSetFromMap(new IdentityHashMap<>());
+        targets.addAll(transactions);
+
+        transactions.stream()
+                .map(Transaction::getAccount)
+                .distinct()
+                .forEach(account -> account.getTransactions().removeIf(targets::contains));
+    }
+
     /**
      * 거래 후 계좌 잔액 정확하게 업데이트하는 메서드
      * - 모든 거래가 끝난 후 마지막 거래 잔액을 계좌 잔액으로 설정
@@ -0,0 +1,48 @@
+package com.http200ok.finbuddy.notification.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 단일 노드용 읽지 않은 알림 개수 캐시 (JVM 메모리)
+ */
+@Component
+@ConditionalOnProperty(name = "notification.redis.enabled", havingValue = "false", matchIfMissing = true)
+public class LocalUnreadCountCache implements UnreadCountCache {
+
+    private final Map<Long, Long> counts = new ConcurrentHashMap<>();
+
+    @Override
+    public Long get(Long memberId) {
+        return counts.get(memberId);
+    }
+
+    @Override
+    public void put(Long memberId, long count) {
+        counts.put(memberId, count);
+    }
+
+    @Override
+    public void increment(Long memberId) {
+        counts.computeIfPresent(memberId, (key, count) -> count + 1);
+    }
+
+    @Override
+    public void decrement(Long memberId) {
+        counts.computeIfPresent(memberId, (key, count) -> Math.max(0, count - 1));
+    }
+
+    @Override
+    public void replaceIfPresent(Long memberId, long count) {
+        counts.computeIfPresent(memberId, (key, current) -> count);
+    }
+
+    @Override
+    public Set<Long> cachedMemberIds() {
+        return Set.copyOf(counts.keySet());
+    }
+}
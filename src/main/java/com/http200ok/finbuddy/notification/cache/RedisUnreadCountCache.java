@@ -0,0 +1,112 @@
+package com.http200ok.finbuddy.notification.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 다중 노드용 읽지 않은 알림 개수 캐시 (Redis)
+ * - 키가 있을 때만 증감하여, 만료된 키가 잘못된 값(1, -1)으로 다시 생기지 않도록 함
+ * - 캐시된 회원 ID는 별도 Set에 기록하여 주기적 보정 대상으로 사용 (만료된 회원은 조회 시 Set에서 제거)
+ */
+@Component
+@ConditionalOnProperty(name = "notification.redis.enabled", havingValue = "true")
+public class RedisUnreadCountCache implements UnreadCountCache {
+
+    private static final String KEY_PREFIX = "notification:unread:";
+    private static final String MEMBER_IDS_KEY = "notification:unread-members";
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    // 키가 있을 때만 증감 (0 미만으로 내려가지 않음)
+    private static final RedisScript<Long> ADD_IF_EXISTS = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return nil
+            end
+            local value = redis.call('INCRBY', KEYS[1], ARGV[1])
+            if value < 0 then
+                redis.call('SET', KEYS[1], 0, 'KEEPTTL')
+                return 0
+            end
+            return value
+            """, Long.class);
+
+    // 키가 있을 때만 덮어씀 (만료 시각 유지)
+    private static final RedisScript<Long> REPLACE_IF_EXISTS = new DefaultRedisScript<>("""
+            if redis.call('SET', KEYS[1], ARGV[1], 'XX', 'KEEPTTL') then
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisUnreadCountCache(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public Long get(Long memberId) {
+        String value = redisTemplate.opsForValue().get(key(memberId));
+        return value != null ? Long.valueOf(value) : null;
+    }
+
+    @Override
+    public void put(Long memberId, long count) {
+        redisTemplate.opsForValue().set(key(memberId), String.valueOf(count), TTL);
+        redisTemplate.opsForSet().add(MEMBER_IDS_KEY, String.valueOf(memberId));
+    }
+
+    @Override
+    public void increment(Long memberId) {
+        redisTemplate.execute(ADD_IF_EXISTS, List.of(key(memberId)), "1");
+    }
+
+    @Override
+    public void decrement(Long memberId) {
+        redisTemplate.execute(ADD_IF_EXISTS, List.of(key(memberId)), "-1");
+    }
+
+    @Override
+    public void replaceIfPresent(Long memberId, long count) {
+        redisTemplate.execute(REPLACE_IF_EXISTS, List.of(key(memberId)), String.valueOf(count));
+    }
+
+    @Override
+    public Set<Long> cachedMemberIds() {
+        Set<String> members = redisTemplate.opsForSet().members(MEMBER_IDS_KEY);
+        if (members == null || members.isEmpty()) {
+            return Set.of();
+        }
+
+        List<String> memberIds = new ArrayList<>(members);
+        List<String> values = redisTemplate.opsForValue()
+                .multiGet(memberIds.stream().map(memberId -> KEY_PREFIX + memberId).toList());
+
+        // 개수 키가 만료된 회원은 Set에서 제거 (다음 조회 시 put으로 다시 추가됨)
+        Set<Long> cached = new HashSet<>();
+        List<Object> expired = new ArrayList<>();
+        for (int i = 0; i < memberIds.size(); i++) {
+            if (values != null && values.get(i) != null) {
+                cached.add(Long.valueOf(memberIds.get(i)));
+            } else {
+                expired.add(memberIds.get(i));
+            }
+        }
+        if (!expired.isEmpty()) {
+            redisTemplate.opsForSet().remove(MEMBER_IDS_KEY, expired.toArray());
+        }
+        return cached;
+    }
+
+    private String key(Long memberId) {
+        return KEY_PREFIX + memberId;
+    }
+}
@@ -0,0 +1,31 @@
+package com.http200ok.finbuddy.notification.cache;
+
+import java.util.Set;
+
+/**
+ * 회원별 읽지 않은 알림 개수 캐시
+ * - 캐시에 없는 회원의 증감은 무시 (다음 조회 시 DB에서 다시 적재)
+ */
+public interface UnreadCountCache {
+
+    /**
+     * @return 캐시된 개수, 없으면 null
+     */
+    Long get(Long memberId);
+
+    void put(Long memberId, long count);
+
+    void increment(Long memberId);
+
+    void decrement(Long memberId);
+
+    /**
+     * 캐시에 있을 때만 값을 덮어씀 (만료 시각은 유지)
+     */
+    void replaceIfPresent(Long memberId, long count);
+
+    /**
+     * 주기적 보정 대상 회원 ID 목록
+     */
+    Set<Long> cachedMemberIds();
+}
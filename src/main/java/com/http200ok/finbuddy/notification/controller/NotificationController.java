@@ -1,14 +1,17 @@
 package com.http200ok.finbuddy.notification.controller;
 
+import com.http200ok.finbuddy.common.dto.CursorPageResponseDto;
 import com.http200ok.finbuddy.notification.dto.NotificationResponseDto;
 import com.http200ok.finbuddy.notification.service.NotificationService;
 import com.http200ok.finbuddy.security.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
 
@@ -28,6 +31,15 @@ public class NotificationController {
         return notificationService.subscribe(memberId, lastEventId);
     }
 
+    // 리액티브 SSE 연결 (구독마다 SseEmitter를 만들지 않음)
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<NotificationResponseDto>> stream(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestHeader(value = "Last-Event-ID", required = false, defaultValue = "") String lastEventId) {
+        Long memberId = userDetails.getMemberId();
+        return notificationService.subscribeStream(memberId, lastEventId);
+    }
+
     // 알림 목록 조회
     @GetMapping
     public ResponseEntity<List<NotificationResponseDto>> getNotifications(@AuthenticationPrincipal CustomUserDetails userDetails) {
@@ -36,6 +48,17 @@ public class NotificationController {
         return ResponseEntity.ok(notifications);
     }
 
+    // 알림 목록 커서 기반 조회 (무한 스크롤용, 첫 요청은 cursor 없이 호출)
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageResponseDto<NotificationResponseDto>> getNotificationsWithCursor(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        Long memberId = userDetails.getMemberId();
+        CursorPageResponseDto<NotificationResponseDto> notifications = notificationService.getNotificationsWithCursor(memberId, cursor, size);
+        return ResponseEntity.ok(notifications);
+    }
+
     // 알림 읽음 표시
     @PatchMapping("/{notificationId}/read")
     public ResponseEntity<Void> markAsRead(@AuthenticationPrincipal CustomUserDetails userDetails, @PathVariable("notificationId") Long notificationId) {
@@ -52,12 +75,20 @@ public class NotificationController {
         return ResponseEntity.ok().build();
     }
 
-    // 사용자의 모든 알림 삭제
+    // 사용자의 모든 알림 삭제 (삭제된 알림 개수 반환)
     @DeleteMapping("/member")
-    public ResponseEntity<Void> deleteAllNotifications(@AuthenticationPrincipal CustomUserDetails userDetails) {
+    public ResponseEntity<Integer> deleteAllNotifications(@AuthenticationPrincipal CustomUserDetails userDetails) {
         Long memberId = userDetails.getMemberId();
-        notificationService.deleteAllNotifications(memberId);
-        return ResponseEntity.ok().build();
+        int deletedCount = notificationService.deleteAllNotifications(memberId);
+        return ResponseEntity.ok(deletedCount);
+    }
+
+    // 사용자의 모든 알림 읽음 표시 (읽음 처리된 알림 개수 반환)
+    @PatchMapping("/member/read")
+    public ResponseEntity<Integer> markAllAsRead(@AuthenticationPrincipal CustomUserDetails userDetails) {
+        Long memberId = userDetails.getMemberId();
+        int updatedCount = notificationService.markAllAsRead(memberId);
+        return ResponseEntity.ok(updatedCount);
     }
 
     // 읽지 않은 알림 개수 조회
@@ -12,6 +12,12 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Table(indexes = {
+        // 읽지 않은 알림 개수 조회용
+        @Index(name = "idx_notification_member_read_deleted", columnList = "member_id, is_read, deleted"),
+        // 알림 목록 키셋 페이지 조회용
+        @Index(name = "idx_notification_member_deleted_created", columnList = "member_id, deleted, created_at")
+})
 public class Notification {
 
     @Id
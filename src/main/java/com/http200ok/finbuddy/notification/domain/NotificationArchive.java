@@ -0,0 +1,42 @@
+package com.http200ok.finbuddy.notification.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관 기간이 지난 읽은 알림 보관용 테이블
+ * - 원본 알림 ID를 그대로 사용하고, 회원은 FK 없이 ID만 저장
+ * - 보관 배치(NotificationRetentionBatchConfig)에서 INSERT ... SELECT로만 적재
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_notification_archive_member_created", columnList = "member_id, created_at")
+})
+public class NotificationArchive {
+
+    @Id
+    @Column(name = "notification_id")
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private NotificationType notificationType;
+
+    @Column(nullable = false)
+    private String content;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,17 @@
+package com.http200ok.finbuddy.notification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 노드 간 알림 전파 메시지 (Redis pub/sub)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationBroadcastMessage {
+    private Long memberId;
+    private long eventId;
+    private NotificationResponseDto notification;
+}
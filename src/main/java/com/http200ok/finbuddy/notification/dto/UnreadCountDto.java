@@ -0,0 +1,14 @@
+package com.http200ok.finbuddy.notification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 회원별 읽지 않은 알림 개수
+ */
+@Getter
+@AllArgsConstructor
+public class UnreadCountDto {
+    private Long memberId;
+    private Long unreadCount;
+}
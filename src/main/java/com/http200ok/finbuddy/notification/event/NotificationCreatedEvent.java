@@ -0,0 +1,15 @@
+package com.http200ok.finbuddy.notification.event;
+
+import com.http200ok.finbuddy.notification.dto.NotificationResponseDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 알림 저장 이벤트 (트랜잭션 커밋 후 SSE 전송에 사용)
+ */
+@Getter
+@AllArgsConstructor
+public class NotificationCreatedEvent {
+    private Long memberId;
+    private NotificationResponseDto notification;
+}
@@ -0,0 +1,34 @@
+package com.http200ok.finbuddy.notification.event;
+
+import com.http200ok.finbuddy.notification.cache.UnreadCountCache;
+import com.http200ok.finbuddy.notification.publisher.NotificationPublisher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class NotificationEventListener {
+
+    private final NotificationPublisher notificationPublisher;
+    private final UnreadCountCache unreadCountCache;
+
+    // 알림을 저장한 트랜잭션이 커밋된 후에만 전파 (롤백된 알림은 전송하지 않음)
+    // 트랜잭션 밖에서 발행된 경우에는 바로 처리
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleNotificationCreated(NotificationCreatedEvent event) {
+        unreadCountCache.increment(event.getMemberId());
+        notificationPublisher.publish(event.getMemberId(), event.getNotification());
+    }
+
+    // 읽음/삭제 트랜잭션이 커밋된 후 읽지 않은 알림 개수 캐시 반영
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleUnreadCountChanged(UnreadCountChangedEvent event) {
+        if (event.isReset()) {
+            unreadCountCache.put(event.getMemberId(), 0);
+        } else if (event.getDelta() < 0) {
+            unreadCountCache.decrement(event.getMemberId());
+        }
+    }
+}
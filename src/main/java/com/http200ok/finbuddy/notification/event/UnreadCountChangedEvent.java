@@ -0,0 +1,23 @@
+package com.http200ok.finbuddy.notification.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 읽지 않은 알림 개수 변경 이벤트 (트랜잭션 커밋 후 캐시에 반영)
+ */
+@Getter
+@AllArgsConstructor
+public class UnreadCountChangedEvent {
+    private Long memberId;
+    private int delta;
+    private boolean reset; // true면 0으로 초기화
+
+    public static UnreadCountChangedEvent decreased(Long memberId) {
+        return new UnreadCountChangedEvent(memberId, -1, false);
+    }
+
+    public static UnreadCountChangedEvent cleared(Long memberId) {
+        return new UnreadCountChangedEvent(memberId, 0, true);
+    }
+}
@@ -0,0 +1,26 @@
+package com.http200ok.finbuddy.notification.publisher;
+
+import com.http200ok.finbuddy.notification.dto.NotificationResponseDto;
+import com.http200ok.finbuddy.notification.repository.EmitterRepository;
+import com.http200ok.finbuddy.notification.service.NotificationDispatcher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단일 노드용 알림 전파 - 현재 JVM의 emitter로만 전송
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "notification.redis.enabled", havingValue = "false", matchIfMissing = true)
+public class LocalNotificationPublisher implements NotificationPublisher {
+
+    private final EmitterRepository emitterRepository;
+    private final NotificationDispatcher notificationDispatcher;
+
+    @Override
+    public void publish(Long memberId, NotificationResponseDto notification) {
+        long eventId = emitterRepository.saveEventCache(memberId, notification);
+        notificationDispatcher.dispatch(memberId, String.valueOf(eventId), notification);
+    }
+}
@@ -0,0 +1,17 @@
+package com.http200ok.finbuddy.notification.publisher;
+
+import com.http200ok.finbuddy.notification.dto.NotificationResponseDto;
+
+/**
+ * 저장된 알림을 구독 중인 클라이언트에게 전파
+ */
+public interface NotificationPublisher {
+
+    /**
+     * 회원의 SSE 연결이 있는 모든 노드로 알림을 전파합니다.
+     *
+     * @param memberId 수신 회원 ID
+     * @param notification 알림 데이터
+     */
+    void publish(Long memberId, NotificationResponseDto notification);
+}
@@ -0,0 +1,108 @@
+package com.http200ok.finbuddy.notification.publisher;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.http200ok.finbuddy.notification.dto.NotificationBroadcastMessage;
+import com.http200ok.finbuddy.notification.dto.NotificationResponseDto;
+import com.http200ok.finbuddy.notification.repository.EmitterRepository;
+import com.http200ok.finbuddy.notification.service.NotificationDispatcher;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 다중 노드용 알림 전파 - Redis 채널로 발행하고, 모든 노드가 구독하여 각자의 emitter로 전송
+ * - 이벤트 ID는 Redis INCR로 발급하여 어느 노드에 재연결해도 Last-Event-ID 재전송이 동작하도록 함
+ * - Redis 호출은 전용 발행 스레드에서 실행하여 커밋 후 리스너(요청 스레드)를 막지 않음
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "notification.redis.enabled", havingValue = "true")
+public class RedisNotificationPublisher implements NotificationPublisher, MessageListener {
+
+    public static final String CHANNEL = "notification";
+    private static final String EVENT_ID_KEY = "notification:event-id";
+    private static final int PUBLISH_QUEUE_CAPACITY = 10000;
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final EmitterRepository emitterRepository;
+    private final NotificationDispatcher notificationDispatcher;
+
+    // 단일 스레드로 발행하여 이벤트 ID 발급 순서와 채널 발행 순서를 일치시킴
+    private ExecutorService publishExecutor;
+    private volatile boolean eventIdSeeded;
+
+    @PostConstruct
+    void start() {
+        publishExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(PUBLISH_QUEUE_CAPACITY),
+                Thread.ofPlatform().name("notification-redis-publisher").daemon(true).factory());
+        try {
+            seedEventId();
+        } catch (RuntimeException e) {
+            // Redis 연결 실패 시 첫 발행 때 다시 시도
+            System.err.println("알림 이벤트 ID 초기화 실패: " + e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        publishExecutor.shutdown();
+    }
+
+    @Override
+    public void publish(Long memberId, NotificationResponseDto notification) {
+        try {
+            publishExecutor.execute(() -> publishToChannel(memberId, notification));
+        } catch (RejectedExecutionException e) {
+            // 발행 대기열이 가득 찬 경우 전파를 버림 (알림은 DB에 저장되어 있으므로 목록 조회로 확인 가능)
+            System.err.println("알림 발행 대기열 초과로 전파 생략: memberId=" + memberId);
+        }
+    }
+
+    private void publishToChannel(Long memberId, NotificationResponseDto notification) {
+        try {
+            if (!eventIdSeeded) {
+                seedEventId();
+            }
+            Long eventId = redisTemplate.opsForValue().increment(EVENT_ID_KEY);
+            String payload = objectMapper.writeValueAsString(new NotificationBroadcastMessage(memberId, eventId, notification));
+            redisTemplate.convertAndSend(CHANNEL, payload);
+        } catch (JsonProcessingException e) {
+            System.err.println("알림 메시지 변환 중 오류: " + e.getMessage());
+        } catch (RuntimeException e) {
+            System.err.println("알림 메시지 발행 중 오류: " + e.getMessage());
+        }
+    }
+
+    // 이벤트 ID 시작값을 현재 시각 기준으로 1회 설정 (로컬 발급 ID보다 작아지지 않도록)
+    private void seedEventId() {
+        redisTemplate.opsForValue().setIfAbsent(EVENT_ID_KEY, String.valueOf(System.currentTimeMillis() * 1000));
+        eventIdSeeded = true;
+    }
+
+    // 모든 노드에서 수신 - 재전송 캐시에 저장하고 이 노드에 연결된 emitter로 전송
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            NotificationBroadcastMessage broadcast = objectMapper.readValue(message.getBody(), NotificationBroadcastMessage.class);
+            emitterRepository.saveEventCache(broadcast.getMemberId(), broadcast.getEventId(), broadcast.getNotification());
+            notificationDispatcher.dispatch(broadcast.getMemberId(), String.valueOf(broadcast.getEventId()), broadcast.getNotification());
+        } catch (IOException e) {
+            System.err.println("알림 메시지 수신 중 오류: " + e.getMessage());
+        }
+    }
+}
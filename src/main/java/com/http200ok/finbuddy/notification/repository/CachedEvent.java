@@ -0,0 +1,9 @@
+package com.http200ok.finbuddy.notification.repository;
+
+/**
+ * 재전송용으로 보관 중인 SSE 이벤트
+ * @param eventId 단조 증가하는 숫자 이벤트 ID (SSE id 필드로 전송)
+ * @param event 이벤트 데이터
+ */
+public record CachedEvent(long eventId, Object event) {
+}
@@ -2,20 +2,31 @@ package com.http200ok.finbuddy.notification.repository;
 
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.List;
 import java.util.Map;
 
 public interface EmitterRepository {
-    SseEmitter save(String emitterId, SseEmitter sseEmitter);
+    SseEmitter save(Long memberId, String emitterId, SseEmitter sseEmitter);
 
-    void saveEventCache(String eventCacheId, Object event);
+    long saveEventCache(Long memberId, Object event);
 
-    Map<String, SseEmitter> findAllEmitterStartWithByMemberId(String memberId);
+    void saveEventCache(Long memberId, long eventId, Object event);
 
-    Map<String, Object> findAllEventCacheStartWithByMemberId(String memberId);
+    Map<String, SseEmitter> findAllEmitterByMemberId(Long memberId);
 
-    void deleteById(String emitterId);
+    Map<Long, Map<String, SseEmitter>> findAllEmitters();
 
-    void deleteAllEmitterStartWithMemberId(String memberId);
+    int countEmitters();
 
-    void deleteAllEventCacheStartWithMemberId(String memberId);
+    List<CachedEvent> findEventCacheAfter(Long memberId, long lastEventId);
+
+    long getLatestEventId();
+
+    void deleteById(Long memberId, String emitterId);
+
+    void deleteAllEmitterByMemberId(Long memberId);
+
+    void deleteAllEventCacheByMemberId(Long memberId);
+
+    void evictExpiredEventCache();
 }
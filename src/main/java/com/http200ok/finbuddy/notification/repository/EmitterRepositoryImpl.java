@@ -3,69 +3,133 @@ package com.http200ok.finbuddy.notification.repository;
 import org.springframework.stereotype.Repository;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Repository
 public class EmitterRepositoryImpl implements EmitterRepository {
 
     // 메모리상에서 관리, event = notification
-    private final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
-    private final Map<String, Object> eventCache = new ConcurrentHashMap<>();
+    // 회원 ID -> (emitterId -> emitter) 2단계 구조로 회원별 조회/삭제 시 전체 emitter를 스캔하지 않음
+    private final Map<Long, Map<String, SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final Map<Long, EventReplayBuffer> eventCache = new ConcurrentHashMap<>();
+
+    // 회원별 재전송 버퍼 크기 및 보관 시간
+    private static final int EVENT_CACHE_CAPACITY = 100;
+    private static final long EVENT_CACHE_TTL_MILLIS = 10L * 60 * 1000; // 10분
+
+    // 현재 연결된 emitter 수 (모니터링용)
+    private final AtomicInteger emitterCount = new AtomicInteger();
+
+    // 단조 증가 이벤트 ID (재시작 후에도 이전 ID보다 커지도록 현재 시각 기준으로 시작)
+    private final AtomicLong eventSequence = new AtomicLong(System.currentTimeMillis() * 1000);
 
     // 사용
     @Override
-    public SseEmitter save(String emitterId, SseEmitter sseEmitter) { // emitter 저장
-        emitters.put(emitterId, sseEmitter);
+    public SseEmitter save(Long memberId, String emitterId, SseEmitter sseEmitter) { // emitter 저장
+        // compute는 회원 단위로 원자적으로 실행되므로, 동시에 빈 맵이 제거되어도 저장이 유실되지 않음
+        emitters.compute(memberId, (key, memberEmitters) -> {
+            Map<String, SseEmitter> target = memberEmitters != null ? memberEmitters : new ConcurrentHashMap<>();
+            if (target.put(emitterId, sseEmitter) == null) {
+                emitterCount.incrementAndGet();
+            }
+            return target;
+        });
         return sseEmitter;
     }
 
     @Override
-    public void saveEventCache(String eventCacheId, Object event) { // 이벤트를 저장
-        eventCache.put(eventCacheId, event);
+    public long saveEventCache(Long memberId, Object event) { // 이벤트를 저장하고 이벤트 ID 발급
+        long[] eventId = new long[1];
+        long now = System.currentTimeMillis();
+        // 만료 정리와 동시에 실행되어도 저장한 버퍼가 제거되지 않도록 compute 안에서 저장
+        eventCache.compute(memberId, (key, buffer) -> {
+            EventReplayBuffer target = buffer != null ? buffer : new EventReplayBuffer(EVENT_CACHE_CAPACITY);
+            eventId[0] = target.append(eventSequence, event, now);
+            return target;
+        });
+        return eventId[0];
     } // 이벤트 저장
 
+    @Override
+    public void saveEventCache(Long memberId, long eventId, Object event) { // 다른 노드에서 발급된 ID로 이벤트 저장
+        long now = System.currentTimeMillis();
+        eventCache.compute(memberId, (key, buffer) -> {
+            EventReplayBuffer target = buffer != null ? buffer : new EventReplayBuffer(EVENT_CACHE_CAPACITY);
+            target.insert(eventId, event, now);
+            return target;
+        });
+        // 연결 이벤트 ID가 수신한 이벤트보다 작아지지 않도록 갱신
+        eventSequence.accumulateAndGet(eventId, Math::max);
+    }
+
     // 사용
     @Override
-    public Map<String, SseEmitter> findAllEmitterStartWithByMemberId(String memberId) { // 해당 회원과 관련된 모든 emitter를 찾음
-        return emitters.entrySet().stream()
-                .filter(entry -> entry.getKey().startsWith(memberId))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    public Map<String, SseEmitter> findAllEmitterByMemberId(Long memberId) { // 해당 회원과 관련된 모든 emitter를 찾음
+        Map<String, SseEmitter> memberEmitters = emitters.get(memberId);
+        return memberEmitters != null ? Map.copyOf(memberEmitters) : Map.of();
+    }
+
+    @Override
+    public Map<Long, Map<String, SseEmitter>> findAllEmitters() { // 전체 emitter 스냅샷 (회원 ID -> emitter 목록)
+        Map<Long, Map<String, SseEmitter>> snapshot = new HashMap<>();
+        emitters.forEach((memberId, memberEmitters) -> snapshot.put(memberId, Map.copyOf(memberEmitters)));
+        return snapshot;
     }
 
     @Override
-    public Map<String, Object> findAllEventCacheStartWithByMemberId(String memberId) { // 해당 회원과 관련된 모든 이벤트를 찾음
-        return eventCache.entrySet().stream()
-                .filter(entry -> entry.getKey().startsWith(memberId))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    public int countEmitters() { // 현재 연결된 emitter 수
+        return emitterCount.get();
+    }
+
+    @Override
+    public List<CachedEvent> findEventCacheAfter(Long memberId, long lastEventId) { // lastEventId 이후의 이벤트를 순서대로 찾음
+        EventReplayBuffer buffer = eventCache.get(memberId);
+        if (buffer == null) {
+            return List.of();
+        }
+        return buffer.findAfter(lastEventId, System.currentTimeMillis() - EVENT_CACHE_TTL_MILLIS);
+    }
+
+    @Override
+    public long getLatestEventId() { // 가장 최근에 발급한 이벤트 ID
+        return eventSequence.get();
     }
 
     // Completion, Timeout 시 해당 emitter 삭제될 때 사용되는 메소드
     @Override
-    public void deleteById(String emitterId) { // emitter를 지움
-        emitters.remove(emitterId);
+    public void deleteById(Long memberId, String emitterId) { // emitter를 지움
+        // 마지막 emitter가 지워지면 회원 항목도 제거
+        emitters.computeIfPresent(memberId, (key, memberEmitters) -> {
+            if (memberEmitters.remove(emitterId) != null) {
+                emitterCount.decrementAndGet();
+            }
+            return memberEmitters.isEmpty() ? null : memberEmitters;
+        });
     } // 해당 emitter 삭제
 
     @Override
-    public void deleteAllEmitterStartWithMemberId(String memberId) { // 해당 회원과 관련된 모든 emitter 삭제
-        emitters.forEach(
-                (key, emitter) -> {
-                    if (key.startsWith(memberId)) {
-                        emitters.remove(key);
-                    }
-                }
-        );
+    public void deleteAllEmitterByMemberId(Long memberId) { // 해당 회원과 관련된 모든 emitter 삭제
+        Map<String, SseEmitter> removed = emitters.remove(memberId);
+        if (removed != null) {
+            emitterCount.addAndGet(-removed.size());
+        }
+    }
+
+    @Override
+    public void deleteAllEventCacheByMemberId(Long memberId) { // 해당 회원과 관련된 모든 이벤트 삭제
+        eventCache.remove(memberId);
     }
 
     @Override
-    public void deleteAllEventCacheStartWithMemberId(String memberId) { // 해당 회원과 관련된 모든 이벤트 삭제
-        eventCache.forEach(
-                (key, emitter) -> {
-                    if (key.startsWith(memberId)) {
-                        eventCache.remove(key);
-                    }
-                }
-        );
+    public void evictExpiredEventCache() { // 보관 시간이 지난 이벤트 삭제, 비어 있는 회원 버퍼도 제거
+        long expiredBefore = System.currentTimeMillis() - EVENT_CACHE_TTL_MILLIS;
+        for (Long memberId : eventCache.keySet()) {
+            eventCache.computeIfPresent(memberId, (key, buffer) -> buffer.evictExpired(expiredBefore) ? null : buffer);
+        }
     }
 }
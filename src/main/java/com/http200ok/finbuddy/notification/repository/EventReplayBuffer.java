@@ -0,0 +1,133 @@
+package com.http200ok.finbuddy.notification.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 회원별 SSE 이벤트 재전송 버퍼 (고정 크기 링 버퍼)
+ * - 가득 차면 가장 오래된 이벤트를 덮어씀
+ * - 이벤트 ID가 버퍼 안에서 오름차순이므로 Last-Event-ID 이후 위치를 이진 탐색으로 찾음
+ */
+class EventReplayBuffer {
+
+    private final long[] eventIds;
+    private final long[] savedAts;
+    private final Object[] events;
+
+    private int head; // 가장 오래된 이벤트 위치
+    private int size;
+
+    EventReplayBuffer(int capacity) {
+        this.eventIds = new long[capacity];
+        this.savedAts = new long[capacity];
+        this.events = new Object[capacity];
+    }
+
+    /**
+     * 이벤트 저장 - ID 발급을 버퍼 락 안에서 하여 버퍼 내 ID 순서를 보장
+     * @return 발급된 이벤트 ID
+     */
+    synchronized long append(AtomicLong sequence, Object event, long now) {
+        long eventId = sequence.incrementAndGet();
+
+        int index;
+        if (size == events.length) {
+            index = head;
+            head = (head + 1) % events.length;
+        } else {
+            index = (head + size) % events.length;
+            size++;
+        }
+
+        eventIds[index] = eventId;
+        savedAts[index] = now;
+        events[index] = event;
+        return eventId;
+    }
+
+    /**
+     * 이미 발급된 ID로 이벤트 저장 (다른 노드에서 발급된 이벤트)
+     * - 대부분 순서대로 도착하므로 끝에 추가하고, 순서가 뒤바뀐 경우에만 정렬 위치에 삽입
+     */
+    synchronized void insert(long eventId, Object event, long now) {
+        int position = size;
+        while (position > 0 && eventIds[physicalIndex(position - 1)] > eventId) {
+            position--;
+        }
+
+        // 중복 수신 무시
+        if (position > 0 && eventIds[physicalIndex(position - 1)] == eventId) {
+            return;
+        }
+
+        if (size == events.length) {
+            // 버퍼의 모든 이벤트보다 오래된 이벤트는 보관하지 않음
+            if (position == 0) {
+                return;
+            }
+            events[head] = null;
+            head = (head + 1) % events.length;
+            size--;
+            position--;
+        }
+
+        // 삽입 위치 뒤의 이벤트를 한 칸씩 뒤로 이동
+        for (int i = size; i > position; i--) {
+            int from = physicalIndex(i - 1);
+            int to = physicalIndex(i);
+            eventIds[to] = eventIds[from];
+            savedAts[to] = savedAts[from];
+            events[to] = events[from];
+        }
+
+        int index = physicalIndex(position);
+        eventIds[index] = eventId;
+        savedAts[index] = now;
+        events[index] = event;
+        size++;
+    }
+
+    /**
+     * lastEventId 이후의 만료되지 않은 이벤트 조회
+     */
+    synchronized List<CachedEvent> findAfter(long lastEventId, long expiredBefore) {
+        // lastEventId보다 큰 첫 번째 위치 이진 탐색
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (eventIds[physicalIndex(mid)] <= lastEventId) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        List<CachedEvent> result = new ArrayList<>(size - low);
+        for (int i = low; i < size; i++) {
+            int index = physicalIndex(i);
+            if (savedAts[index] >= expiredBefore) {
+                result.add(new CachedEvent(eventIds[index], events[index]));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 만료된 이벤트 제거
+     * @return 버퍼가 비었는지 여부
+     */
+    synchronized boolean evictExpired(long expiredBefore) {
+        while (size > 0 && savedAts[head] < expiredBefore) {
+            events[head] = null;
+            head = (head + 1) % events.length;
+            size--;
+        }
+        return size == 0;
+    }
+
+    private int physicalIndex(int logicalIndex) {
+        return (head + logicalIndex) % events.length;
+    }
+}
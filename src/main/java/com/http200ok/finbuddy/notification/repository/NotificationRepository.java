@@ -1,12 +1,105 @@
 package com.http200ok.finbuddy.notification.repository;
 
 import com.http200ok.finbuddy.notification.domain.Notification;
+import com.http200ok.finbuddy.notification.dto.NotificationResponseDto;
+import com.http200ok.finbuddy.notification.dto.UnreadCountDto;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
     List<Notification> findByReceiverIdAndDeletedFalseOrderByCreatedAtDesc(Long memberId);
-    List<Notification> findByReceiverIdAndDeletedFalse(Long memberId);
     Long countByReceiverIdAndIsReadFalseAndDeletedFalse(Long memberId);
+
+    // 여러 회원의 읽지 않은 알림 개수 일괄 조회 (읽지 않은 알림이 없는 회원은 결과에 없음)
+    @Query("""
+        SELECT new com.http200ok.finbuddy.notification.dto.UnreadCountDto(n.receiver.id, COUNT(n))
+        FROM Notification n
+        WHERE n.receiver.id IN :memberIds
+        AND n.isRead = false
+        AND n.deleted = false
+        GROUP BY n.receiver.id
+    """)
+    List<UnreadCountDto> countUnreadByReceiverIds(@Param("memberIds") Collection<Long> memberIds);
+
+    // 알림 목록 첫 페이지 조회 (엔티티 대신 DTO로 바로 조회)
+    @Query("""
+        SELECT new com.http200ok.finbuddy.notification.dto.NotificationResponseDto(
+            n.id, n.notificationType, n.content, n.isRead, n.createdAt)
+        FROM Notification n
+        WHERE n.receiver.id = :memberId
+        AND n.deleted = false
+        ORDER BY n.createdAt DESC, n.id DESC
+    """)
+    List<NotificationResponseDto> findPageByReceiverId(@Param("memberId") Long memberId, Pageable pageable);
+
+    // 알림 목록 다음 페이지 조회 ((createdAt, id) 커서 이전 알림)
+    @Query("""
+        SELECT new com.http200ok.finbuddy.notification.dto.NotificationResponseDto(
+            n.id, n.notificationType, n.content, n.isRead, n.createdAt)
+        FROM Notification n
+        WHERE n.receiver.id = :memberId
+        AND n.deleted = false
+        AND (n.createdAt < :cursorCreatedAt OR (n.createdAt = :cursorCreatedAt AND n.id < :cursorId))
+        ORDER BY n.createdAt DESC, n.id DESC
+    """)
+    List<NotificationResponseDto> findPageByReceiverIdBefore(@Param("memberId") Long memberId,
+                                                             @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                             @Param("cursorId") Long cursorId,
+                                                             Pageable pageable);
+
+    // 회원의 모든 알림 일괄 소프트 삭제 (엔티티 로딩 없이 단일 UPDATE)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.deleted = true WHERE n.receiver.id = :memberId AND n.deleted = false")
+    int softDeleteAllByReceiverId(@Param("memberId") Long memberId);
+
+    // 소프트 삭제된 알림 ID 조회 (ID 키셋 페이징, 보관 배치용)
+    @Query("""
+        SELECT n.id
+        FROM Notification n
+        WHERE n.id > :lastId
+        AND n.deleted = true
+        ORDER BY n.id
+    """)
+    List<Long> findDeletedIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 기준 일시 이전에 생성된 읽은 알림 ID 조회 (ID 키셋 페이징, 보관 배치용)
+    @Query("""
+        SELECT n.id
+        FROM Notification n
+        WHERE n.id > :lastId
+        AND n.isRead = true
+        AND n.deleted = false
+        AND n.createdAt < :cutoff
+        ORDER BY n.id
+    """)
+    List<Long> findReadIdsCreatedBeforeAfter(@Param("lastId") Long lastId,
+                                            @Param("cutoff") LocalDateTime cutoff,
+                                            Pageable pageable);
+
+    // 알림을 보관 테이블로 복사 (이미 보관된 알림은 건너뜀)
+    @Modifying
+    @Query(value = """
+        INSERT IGNORE INTO notification_archive (notification_id, member_id, notification_type, content, created_at, archived_at)
+        SELECT n.notification_id, n.member_id, n.notification_type, n.content, n.created_at, :archivedAt
+        FROM notification n
+        WHERE n.notification_id IN (:ids)
+    """, nativeQuery = true)
+    int copyToArchiveByIds(@Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+
+    // 알림 일괄 물리 삭제
+    @Modifying
+    @Query("DELETE FROM Notification n WHERE n.id IN :ids")
+    int deleteAllByIdsInBulk(@Param("ids") Collection<Long> ids);
+
+    // 회원의 읽지 않은 알림 일괄 읽음 처리
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.receiver.id = :memberId AND n.isRead = false AND n.deleted = false")
+    int markAllAsReadByReceiverId(@Param("memberId") Long memberId);
 }
@@ -0,0 +1,98 @@
+package com.http200ok.finbuddy.notification.repository;
+
+import com.http200ok.finbuddy.notification.dto.NotificationResponseDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 리액티브 알림 스트림용 회원별 Sink 저장소
+ * - 회원당 Sink 하나를 여러 구독(탭/기기)이 공유 (multicast)
+ * - 느린 구독자에게는 전달하지 않고 버림 (directBestEffort) - 재연결 시 Last-Event-ID로 재전송
+ * - 마지막 구독이 끝나면 Sink 제거
+ * - 서블릿(MVC) 스택에서 동작하므로 구독마다 비동기 요청과 커넥션 1개를 차지함 (스레드는 점유하지 않음)
+ *   동시 연결 수는 server.tomcat.max-connections로 조정하며, 연결 수 한도를 없애려면 WebFlux 서버로 분리해야 함
+ */
+@Repository
+public class NotificationSinkRegistry {
+
+    // 동시 emit(다른 스레드의 전송/완료)으로 실패했을 때 재시도하는 최대 시간
+    private static final Duration EMIT_RETRY_DURATION = Duration.ofMillis(100);
+
+    private final Map<Long, MemberSink> sinks = new ConcurrentHashMap<>();
+
+    /**
+     * 회원의 실시간 알림 스트림 (구독 시작 시 등록, 종료 시 해제)
+     */
+    public Flux<ServerSentEvent<NotificationResponseDto>> asFlux(Long memberId) {
+        return Flux.defer(() -> {
+            // 구독 수 증가를 compute 안에서 처리하여, 동시에 해제 중인 Sink를 받지 않도록 함
+            MemberSink memberSink = sinks.compute(memberId, (key, current) -> {
+                MemberSink target = current != null ? current : new MemberSink();
+                target.subscribers++;
+                return target;
+            });
+            return memberSink.sink.asFlux().doFinally(signal -> release(memberId));
+        });
+    }
+
+    /**
+     * 회원의 모든 리액티브 구독자에게 알림 전송 (구독자가 없으면 아무것도 하지 않음)
+     */
+    public void emit(Long memberId, String eventId, NotificationResponseDto notification) {
+        MemberSink memberSink = sinks.get(memberId);
+        if (memberSink == null) {
+            return;
+        }
+        ServerSentEvent<NotificationResponseDto> event = ServerSentEvent.<NotificationResponseDto>builder()
+                .id(eventId)
+                .event("notification")
+                .data(notification)
+                .build();
+
+        // 동시 emit(FAIL_NON_SERIALIZED)은 잠시 재시도하고, 최종 실패는 결과별로 집계 (조용히 버리지 않음)
+        Sinks.EmitFailureHandler retryHandler = Sinks.EmitFailureHandler.busyLooping(EMIT_RETRY_DURATION);
+        try {
+            memberSink.sink.emitNext(event, (signalType, result) -> {
+                if (retryHandler.onEmitFailure(signalType, result)) {
+                    return true;
+                }
+                emitFailureCounter(result).increment();
+                return false;
+            });
+        } catch (Sinks.EmissionException e) {
+            System.err.println("알림 스트림 전송 실패: memberId=" + memberId + ", reason=" + e.getReason());
+        }
+    }
+
+    private Counter emitFailureCounter(Sinks.EmitResult result) {
+        return Counter.builder("notification.stream.emit.failed")
+                .tag("result", result.name())
+                .register(Metrics.globalRegistry);
+    }
+
+    private void release(Long memberId) {
+        sinks.computeIfPresent(memberId, (key, memberSink) -> {
+            memberSink.subscribers--;
+            if (memberSink.subscribers > 0) {
+                return memberSink;
+            }
+            memberSink.sink.tryEmitComplete();
+            return null;
+        });
+    }
+
+    // compute 안에서만 구독 수를 변경
+    private static class MemberSink {
+        private final Sinks.Many<ServerSentEvent<NotificationResponseDto>> sink =
+                Sinks.many().multicast().directBestEffort();
+        private int subscribers;
+    }
+}
@@ -0,0 +1,19 @@
+package com.http200ok.finbuddy.notification.scheduler;
+
+import com.http200ok.finbuddy.notification.repository.EmitterRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class NotificationEventCacheScheduler {
+
+    private final EmitterRepository emitterRepository;
+
+    // 1분마다 보관 시간이 지난 SSE 재전송 이벤트 정리
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpiredEventCache() {
+        emitterRepository.evictExpiredEventCache();
+    }
+}
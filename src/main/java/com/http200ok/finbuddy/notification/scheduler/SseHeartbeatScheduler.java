@@ -0,0 +1,127 @@
+package com.http200ok.finbuddy.notification.scheduler;
+
+import com.http200ok.finbuddy.notification.repository.EmitterRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SSE 하트비트 및 끊긴 연결 정리
+ * - 주기적으로 모든 emitter에 주석(ping) 이벤트를 보내고, 전송에 실패한 emitter를 제거
+ * - emitter를 배치로 나누어 가상 스레드에서 전송하므로, 응답 없는 연결 하나가 전체 순회를 막지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class SseHeartbeatScheduler {
+
+    private static final int BATCH_SIZE = 500;
+    private static final long BATCH_TIMEOUT_SECONDS = 20;
+
+    private final EmitterRepository emitterRepository;
+
+    private final ExecutorService heartbeatExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicInteger lastEvictedCount = new AtomicInteger();
+
+    private Counter evictedCounter;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("notification.sse.connections", emitterRepository, EmitterRepository::countEmitters)
+                .description("현재 연결된 SSE emitter 수")
+                .register(Metrics.globalRegistry);
+        Gauge.builder("notification.sse.heartbeat.last.evicted", lastEvictedCount, AtomicInteger::get)
+                .description("마지막 하트비트에서 제거된 emitter 수")
+                .register(Metrics.globalRegistry);
+        evictedCounter = Counter.builder("notification.sse.evicted")
+                .description("하트비트 실패로 제거된 emitter 누적 수")
+                .register(Metrics.globalRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeatExecutor.shutdownNow();
+    }
+
+    // 30초마다 하트비트 (이전 순회가 끝나지 않았으면 건너뜀)
+    @Scheduled(fixedDelay = 30_000)
+    public void sendHeartbeat() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        heartbeatExecutor.submit(() -> {
+            try {
+                runHeartbeat();
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    private void runHeartbeat() {
+        List<EmitterTarget> targets = new ArrayList<>();
+        emitterRepository.findAllEmitters().forEach((memberId, memberEmitters) ->
+                memberEmitters.forEach((emitterId, emitter) -> targets.add(new EmitterTarget(memberId, emitterId, emitter))));
+
+        AtomicInteger evicted = new AtomicInteger();
+        List<Future<?>> batches = new ArrayList<>();
+        for (int from = 0; from < targets.size(); from += BATCH_SIZE) {
+            List<EmitterTarget> batch = targets.subList(from, Math.min(from + BATCH_SIZE, targets.size()));
+            batches.add(heartbeatExecutor.submit(() -> batch.forEach(target -> {
+                if (!ping(target)) {
+                    evicted.incrementAndGet();
+                }
+            })));
+        }
+
+        for (Future<?> batch : batches) {
+            try {
+                batch.get(BATCH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                // 시간 초과된 배치는 다음 하트비트에서 다시 확인
+                System.err.println("SSE 하트비트 배치 처리 지연: " + e.getMessage());
+            }
+        }
+
+        lastEvictedCount.set(evicted.get());
+        evictedCounter.increment(evicted.get());
+    }
+
+    // 주석 이벤트 전송, 실패하면 emitter 제거
+    private boolean ping(EmitterTarget target) {
+        try {
+            target.emitter().send(SseEmitter.event().comment("ping"));
+            return true;
+        } catch (Exception e) {
+            emitterRepository.deleteById(target.memberId(), target.emitterId());
+            // 서블릿 비동기 요청 자원 반환
+            try {
+                target.emitter().complete();
+            } catch (Exception ignored) {
+                // 이미 종료된 연결
+            }
+            return false;
+        }
+    }
+
+    private record EmitterTarget(Long memberId, String emitterId, SseEmitter emitter) {
+    }
+}
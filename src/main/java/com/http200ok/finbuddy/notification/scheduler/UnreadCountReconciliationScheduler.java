@@ -0,0 +1,42 @@
+package com.http200ok.finbuddy.notification.scheduler;
+
+import com.http200ok.finbuddy.notification.cache.UnreadCountCache;
+import com.http200ok.finbuddy.notification.dto.UnreadCountDto;
+import com.http200ok.finbuddy.notification.repository.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 읽지 않은 알림 개수 캐시 보정
+ * - 캐시된 회원의 개수를 주기적으로 DB 값으로 덮어써서 누적 오차 제거
+ */
+@Component
+@RequiredArgsConstructor
+public class UnreadCountReconciliationScheduler {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final UnreadCountCache unreadCountCache;
+    private final NotificationRepository notificationRepository;
+
+    // 5분마다 보정
+    @Scheduled(fixedDelay = 300_000)
+    public void reconcile() {
+        List<Long> memberIds = new ArrayList<>(unreadCountCache.cachedMemberIds());
+
+        for (int from = 0; from < memberIds.size(); from += BATCH_SIZE) {
+            List<Long> batch = memberIds.subList(from, Math.min(from + BATCH_SIZE, memberIds.size()));
+            Map<Long, Long> counts = notificationRepository.countUnreadByReceiverIds(batch).stream()
+                    .collect(Collectors.toMap(UnreadCountDto::getMemberId, UnreadCountDto::getUnreadCount));
+
+            // 결과에 없는 회원은 읽지 않은 알림 0개 (보정 중 만료된 항목은 다시 만들지 않음)
+            batch.forEach(memberId -> unreadCountCache.replaceIfPresent(memberId, counts.getOrDefault(memberId, 0L)));
+        }
+    }
+}
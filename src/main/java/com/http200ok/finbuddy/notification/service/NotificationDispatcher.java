@@ -0,0 +1,165 @@
+package com.http200ok.finbuddy.notification.service;
+
+import com.http200ok.finbuddy.notification.dto.NotificationResponseDto;
+import com.http200ok.finbuddy.notification.repository.EmitterRepository;
+import com.http200ok.finbuddy.notification.repository.NotificationSinkRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SSE 알림 전송기
+ * - 비즈니스 트랜잭션 스레드 대신 전용 전송 스레드가 큐에서 꺼내 전송
+ * - 회원 ID 기준으로 전송 스레드별 큐에 배정하여, 같은 회원의 알림은 항상 한 스레드에서 발급 순서대로 전송
+ * - 큐가 가득 차면 새 알림 전송을 버림 (알림은 DB와 재전송 캐시에 남아 있으므로 재연결 시 수신 가능)
+ * - 전송이 제한 시간을 넘기면 감시 스레드가 연결을 끊어, 재연결 후 Last-Event-ID로 이어받도록 함
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationDispatcher {
+
+    // 이 시간 안에 끝나지 않은 전송은 느린 클라이언트로 판단하여 연결 종료
+    private static final long SEND_TIMEOUT_MILLIS = 2000;
+
+    private final EmitterRepository emitterRepository;
+    private final NotificationSinkRegistry notificationSinkRegistry;
+
+    @Value("${notification.dispatch.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${notification.dispatch.sender-threads:4}")
+    private int senderThreads;
+
+    // 전송 스레드별 큐 (같은 회원은 항상 같은 큐)
+    private final List<BlockingQueue<DispatchTask>> queues = new ArrayList<>();
+    private final List<Thread> senders = new ArrayList<>();
+    private ScheduledExecutorService sendTimeoutWatchdog;
+    private volatile boolean running;
+
+    private Counter sentCounter;
+    private Counter queueFullDropCounter;
+    private Counter slowConsumerDropCounter;
+    private Timer sendTimer;
+
+    @PostConstruct
+    void start() {
+        int capacityPerSender = Math.max(1, queueCapacity / senderThreads);
+        for (int i = 0; i < senderThreads; i++) {
+            queues.add(new ArrayBlockingQueue<>(capacityPerSender));
+        }
+        sendTimeoutWatchdog = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("notification-send-watchdog").daemon(true).factory());
+
+        Gauge.builder("notification.dispatch.queue.size", queues,
+                        list -> list.stream().mapToInt(BlockingQueue::size).sum())
+                .description("전송 대기 중인 SSE 알림 수")
+                .register(Metrics.globalRegistry);
+        sentCounter = Counter.builder("notification.dispatch.sent")
+                .register(Metrics.globalRegistry);
+        queueFullDropCounter = Counter.builder("notification.dispatch.dropped")
+                .tag("reason", "queue_full")
+                .register(Metrics.globalRegistry);
+        slowConsumerDropCounter = Counter.builder("notification.dispatch.dropped")
+                .tag("reason", "slow_consumer")
+                .register(Metrics.globalRegistry);
+        sendTimer = Timer.builder("notification.dispatch.send.latency")
+                .register(Metrics.globalRegistry);
+
+        running = true;
+        for (int i = 0; i < senderThreads; i++) {
+            BlockingQueue<DispatchTask> queue = queues.get(i);
+            senders.add(Thread.ofPlatform()
+                    .name("notification-sender-" + i)
+                    .daemon(true)
+                    .start(() -> runSender(queue)));
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        senders.forEach(Thread::interrupt);
+        sendTimeoutWatchdog.shutdownNow();
+    }
+
+    /**
+     * 알림 전송 요청 (호출 스레드를 막지 않음)
+     * @return 큐 등록 여부 (가득 찬 경우 false)
+     */
+    public boolean dispatch(Long memberId, String eventId, NotificationResponseDto data) {
+        boolean queued = queueOf(memberId).offer(new DispatchTask(memberId, eventId, data));
+        if (!queued) {
+            queueFullDropCounter.increment();
+        }
+        return queued;
+    }
+
+    private BlockingQueue<DispatchTask> queueOf(Long memberId) {
+        return queues.get(Math.floorMod(memberId.hashCode(), queues.size()));
+    }
+
+    private void runSender(BlockingQueue<DispatchTask> queue) {
+        while (running) {
+            try {
+                send(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                System.err.println("알림 전송 중 오류: " + e.getMessage());
+            }
+        }
+    }
+
+    private void send(DispatchTask task) {
+        // 리액티브 스트림 구독자에게 전송 (블로킹 없음)
+        notificationSinkRegistry.emit(task.memberId(), task.eventId(), task.data());
+
+        emitterRepository.findAllEmitterByMemberId(task.memberId()).forEach((emitterId, emitter) -> {
+            long startedAt = System.nanoTime();
+            // 전송이 제한 시간 안에 끝나지 않으면 감시 스레드가 연결을 끊어 블로킹된 전송을 풀어줌
+            // (같은 큐의 다른 회원 전송이 밀리지 않도록)
+            ScheduledFuture<?> sendTimeout = sendTimeoutWatchdog.schedule(
+                    () -> dropSlowConsumer(task.memberId(), emitterId, emitter),
+                    SEND_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            try {
+                emitter.send(SseEmitter.event()
+                        .id(task.eventId())
+                        .name("notification")
+                        .data(task.data()));
+                sentCounter.increment();
+            } catch (Exception e) {
+                emitterRepository.deleteById(task.memberId(), emitterId);
+            } finally {
+                sendTimeout.cancel(false);
+                sendTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        });
+    }
+
+    // 느린 클라이언트 연결 종료
+    private void dropSlowConsumer(Long memberId, String emitterId, SseEmitter emitter) {
+        slowConsumerDropCounter.increment();
+        emitterRepository.deleteById(memberId, emitterId);
+        emitter.complete();
+    }
+
+    private record DispatchTask(Long memberId, String eventId, NotificationResponseDto data) {
+    }
+}
@@ -1,18 +1,24 @@
 package com.http200ok.finbuddy.notification.service;
 
+import com.http200ok.finbuddy.common.dto.CursorPageResponseDto;
 import com.http200ok.finbuddy.member.domain.Member;
 import com.http200ok.finbuddy.notification.domain.NotificationType;
 import com.http200ok.finbuddy.notification.dto.NotificationResponseDto;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
 
 public interface NotificationService {
     SseEmitter subscribe(Long memberId, String lastEventId);
+    Flux<ServerSentEvent<NotificationResponseDto>> subscribeStream(Long memberId, String lastEventId);
     void sendNotification(Member member, NotificationType notificationType, String content);
     List<NotificationResponseDto> getNotifications(Long memberId);
+    CursorPageResponseDto<NotificationResponseDto> getNotificationsWithCursor(Long memberId, String cursor, int size);
     void markAsRead(Long notificationId, Long memberId);
     void deleteNotification(Long notificationId, Long memberId);
-    void deleteAllNotifications(Long memberId);
+    int deleteAllNotifications(Long memberId);
+    int markAllAsRead(Long memberId);
     Long getUnreadCount(Long memberId);
 }
@@ -1,18 +1,33 @@
 package com.http200ok.finbuddy.notification.service;
 
+import com.http200ok.finbuddy.common.dto.CursorPageResponseDto;
+import com.http200ok.finbuddy.common.dto.DateTimeCursor;
 import com.http200ok.finbuddy.member.domain.Member;
+import com.http200ok.finbuddy.notification.cache.UnreadCountCache;
 import com.http200ok.finbuddy.notification.domain.Notification;
 import com.http200ok.finbuddy.notification.domain.NotificationType;
 import com.http200ok.finbuddy.notification.dto.NotificationResponseDto;
+import com.http200ok.finbuddy.notification.event.NotificationCreatedEvent;
+import com.http200ok.finbuddy.notification.event.UnreadCountChangedEvent;
+import com.http200ok.finbuddy.notification.repository.CachedEvent;
 import com.http200ok.finbuddy.notification.repository.EmitterRepository;
+import com.http200ok.finbuddy.notification.repository.NotificationSinkRegistry;
 import com.http200ok.finbuddy.notification.repository.NotificationRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -20,49 +35,100 @@ import java.util.stream.Collectors;
 public class NotificationServiceImpl implements NotificationService {
 
     private static final Long DEFAULT_TIMEOUT = 60L * 1000L * 60; // 1시간
+    private static final Duration STREAM_HEARTBEAT_INTERVAL = Duration.ofSeconds(30);
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
     private final EmitterRepository emitterRepository;
     private final NotificationRepository notificationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NotificationSinkRegistry notificationSinkRegistry;
+    private final UnreadCountCache unreadCountCache;
 
     // 알림 구독 요청 시 호출됨
     public SseEmitter subscribe(Long memberId, String lastEventId) {
         String emitterId = memberId + "_" + System.currentTimeMillis();
-        SseEmitter emitter = emitterRepository.save(emitterId, new SseEmitter(DEFAULT_TIMEOUT));
+        SseEmitter emitter = emitterRepository.save(memberId, emitterId, new SseEmitter(DEFAULT_TIMEOUT));
 
-        emitter.onCompletion(() -> emitterRepository.deleteById(emitterId));
-        emitter.onTimeout(() -> emitterRepository.deleteById(emitterId));
-        emitter.onError((e) -> emitterRepository.deleteById(emitterId));
+        emitter.onCompletion(() -> emitterRepository.deleteById(memberId, emitterId));
+        emitter.onTimeout(() -> emitterRepository.deleteById(memberId, emitterId));
+        emitter.onError((e) -> emitterRepository.deleteById(memberId, emitterId));
 
         // 연결 직후 더미 이벤트 전송(503 방지)
-        String eventId = memberId + "_" + System.currentTimeMillis();
+        // - 현재까지 발급된 마지막 이벤트 ID를 사용하여, 재연결 시 이후 이벤트만 재전송되도록 함
         try {
             emitter.send(SseEmitter.event()
-                    .id(eventId)
+                    .id(String.valueOf(emitterRepository.getLatestEventId()))
                     .name("connect")
                     .data("Connected!"));
         } catch (Exception e) {
-            emitterRepository.deleteById(emitterId);
+            emitterRepository.deleteById(memberId, emitterId);
+            return emitter;
         }
 
-        // 미수신 이벤트가 있으면 전송
-        if (lastEventId != null && !lastEventId.isEmpty()) {
-            Map<String, Object> events = emitterRepository.findAllEventCacheStartWithByMemberId(String.valueOf(memberId));
-            events.entrySet().stream()
-                    .filter(entry -> lastEventId.compareTo(entry.getKey()) < 0)
-                    .forEach(entry -> {
-                        try {
-                            emitter.send(SseEmitter.event()
-                                    .id(entry.getKey())
-                                    .name("notification")
-                                    .data(entry.getValue()));
-                        } catch (Exception e) {
-                            emitterRepository.deleteById(emitterId);
-                        }
-                    });
+        // 미수신 이벤트가 있으면 전송 (이벤트 ID 순)
+        Long lastReceivedEventId = parseEventId(lastEventId);
+        if (lastReceivedEventId != null) {
+            List<CachedEvent> events = emitterRepository.findEventCacheAfter(memberId, lastReceivedEventId);
+            for (CachedEvent event : events) {
+                try {
+                    emitter.send(SseEmitter.event()
+                            .id(String.valueOf(event.eventId()))
+                            .name("notification")
+                            .data(event.event()));
+                } catch (Exception e) {
+                    emitterRepository.deleteById(memberId, emitterId);
+                    break;
+                }
+            }
         }
 
         return emitter;
     }
 
+    // 리액티브 알림 스트림 구독 (SseEmitter 구독과 같은 Last-Event-ID 재전송 규칙)
+    public Flux<ServerSentEvent<NotificationResponseDto>> subscribeStream(Long memberId, String lastEventId) {
+        Long lastReceivedEventId = parseEventId(lastEventId);
+
+        Flux<ServerSentEvent<NotificationResponseDto>> events = Flux.defer(() -> {
+            // 실시간 스트림을 먼저 구독해 두고(전송은 보류), 그 다음 재전송 목록을 조회하여 사이에 발생한 알림이 유실되지 않도록 함
+            Sinks.Many<ServerSentEvent<NotificationResponseDto>> heldLive = Sinks.many().unicast().onBackpressureBuffer();
+            Disposable liveSubscription = notificationSinkRegistry.asFlux(memberId)
+                    .subscribe(heldLive::tryEmitNext, heldLive::tryEmitError, heldLive::tryEmitComplete);
+
+            ServerSentEvent<NotificationResponseDto> connect = ServerSentEvent.<NotificationResponseDto>builder()
+                    .id(String.valueOf(emitterRepository.getLatestEventId()))
+                    .event("connect")
+                    .comment("Connected!")
+                    .build();
+
+            List<CachedEvent> replayEvents = lastReceivedEventId != null
+                    ? emitterRepository.findEventCacheAfter(memberId, lastReceivedEventId)
+                    : List.of();
+            // 재전송한 마지막 이벤트 ID - 보류해 둔 실시간 이벤트 중 이미 재전송한 이벤트는 건너뜀
+            long replayedUpTo = !replayEvents.isEmpty()
+                    ? replayEvents.getLast().eventId()
+                    : (lastReceivedEventId != null ? lastReceivedEventId : 0L);
+
+            Flux<ServerSentEvent<NotificationResponseDto>> connectAndReplay = Flux.just(connect)
+                    .concatWith(Flux.fromIterable(replayEvents)
+                            .map(event -> ServerSentEvent.<NotificationResponseDto>builder()
+                                    .id(String.valueOf(event.eventId()))
+                                    .event("notification")
+                                    .data((NotificationResponseDto) event.event())
+                                    .build()));
+
+            // 재전송이 끝난 뒤에 보류한 실시간 이벤트를 이어서 전송 (한 번씩, 이벤트 ID 순서대로)
+            return Flux.concat(connectAndReplay,
+                            heldLive.asFlux().filter(event -> Long.parseLong(event.id()) > replayedUpTo))
+                    .doFinally(signal -> liveSubscription.dispose());
+        });
+
+        // 연결 유지 및 끊긴 연결 감지를 위한 주석 이벤트
+        Flux<ServerSentEvent<NotificationResponseDto>> heartbeat = Flux.interval(STREAM_HEARTBEAT_INTERVAL)
+                .map(tick -> ServerSentEvent.<NotificationResponseDto>builder().comment("ping").build());
+
+        return Flux.merge(events, heartbeat);
+    }
+
     // 알림 보내는 메서드
     @Transactional
     public void sendNotification(Member member, NotificationType notificationType, String content) {
@@ -74,28 +140,20 @@ public class NotificationServiceImpl implements NotificationService {
 
         notificationRepository.save(notification);
 
-        String memberId = member.getId().toString();
-        String eventId = memberId + "_" + System.currentTimeMillis();
-
-        // 이벤트 캐시에 저장
-        emitterRepository.saveEventCache(eventId, NotificationResponseDto.fromEntity(notification));
-
-        sendToClient(memberId, notification, eventId);
+        // SSE 전송은 트랜잭션 커밋 후 전송 스레드에서 처리 (호출한 트랜잭션이 클라이언트 전송을 기다리지 않음)
+        eventPublisher.publishEvent(new NotificationCreatedEvent(member.getId(), NotificationResponseDto.fromEntity(notification)));
     }
 
-    // 클라이언트에게 이벤트 전송
-    private void sendToClient(String memberId, Notification notification, String eventId) {
-        Map<String, SseEmitter> sseEmitters = emitterRepository.findAllEmitterStartWithByMemberId(memberId);
-        sseEmitters.forEach((key, emitter) -> {
-            try {
-                emitter.send(SseEmitter.event()
-                        .id(eventId)
-                        .name("notification")
-                        .data(NotificationResponseDto.fromEntity(notification)));
-            } catch (Exception e) {
-                emitterRepository.deleteById(key);
-            }
-        });
+    // Last-Event-ID 헤더 파싱 (숫자가 아니면 재전송하지 않음)
+    private Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isEmpty()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId);
+        } catch (NumberFormatException e) {
+            return null;
+        }
     }
 
     // 알림 목록 조회
@@ -107,6 +165,36 @@ public class NotificationServiceImpl implements NotificationService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 알림 목록 커서 기반 조회 (무한 스크롤용)
+     * - (createdAt, id) 키셋으로 조회하므로 알림이 많이 쌓여도 페이지당 비용이 일정
+     * - size + 1건을 조회하여 다음 페이지 존재 여부 판단
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<NotificationResponseDto> getNotificationsWithCursor(Long memberId, String cursor, int size) {
+        int pageSize = Math.clamp(size, 1, MAX_CURSOR_PAGE_SIZE);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<NotificationResponseDto> notifications;
+        if (cursor != null && !cursor.isBlank()) {
+            DateTimeCursor decoded = DateTimeCursor.decode(cursor);
+            notifications = notificationRepository.findPageByReceiverIdBefore(memberId, decoded.dateTime(), decoded.id(), limit);
+        } else {
+            notifications = notificationRepository.findPageByReceiverId(memberId, limit);
+        }
+
+        boolean hasNext = notifications.size() > pageSize;
+        List<NotificationResponseDto> content = hasNext ? notifications.subList(0, pageSize) : notifications;
+
+        String nextCursor = null;
+        if (hasNext) {
+            NotificationResponseDto last = content.getLast();
+            nextCursor = new DateTimeCursor(last.getCreatedAt(), last.getNotificationId()).encode();
+        }
+
+        return new CursorPageResponseDto<>(content, content.size(), hasNext, nextCursor);
+    }
+
     // 알림 읽음 표시
     @Transactional
     public void markAsRead(Long notificationId, Long memberId) {
@@ -117,6 +205,10 @@ public class NotificationServiceImpl implements NotificationService {
             throw new SecurityException("권한이 없는 알림입니다.");
         }
 
+        // 읽지 않은 알림이었을 때만 개수 감소
+        if (!notification.getIsRead() && !notification.getDeleted()) {
+            eventPublisher.publishEvent(UnreadCountChangedEvent.decreased(memberId));
+        }
         notification.markAsRead();
     }
 
@@ -130,19 +222,39 @@ public class NotificationServiceImpl implements NotificationService {
             throw new SecurityException("권한이 없는 알림입니다.");
         }
 
+        if (!notification.getIsRead() && !notification.getDeleted()) {
+            eventPublisher.publishEvent(UnreadCountChangedEvent.decreased(memberId));
+        }
         notification.delete();
     }
 
     // 사용자의 모든 알림 삭제 (소프트 삭제)
     @Transactional
-    public void deleteAllNotifications(Long memberId) {
-        List<Notification> notifications = notificationRepository.findByReceiverIdAndDeletedFalse(memberId);
-        notifications.forEach(Notification::delete);
+    public int deleteAllNotifications(Long memberId) {
+        int deletedCount = notificationRepository.softDeleteAllByReceiverId(memberId);
+        eventPublisher.publishEvent(UnreadCountChangedEvent.cleared(memberId));
+        return deletedCount;
+    }
+
+    // 사용자의 모든 알림 읽음 처리
+    @Transactional
+    public int markAllAsRead(Long memberId) {
+        int updatedCount = notificationRepository.markAllAsReadByReceiverId(memberId);
+        eventPublisher.publishEvent(UnreadCountChangedEvent.cleared(memberId));
+        return updatedCount;
     }
 
     // 읽지 않은 알림 개수 조회
     @Transactional(readOnly = true)
     public Long getUnreadCount(Long memberId) {
-        return notificationRepository.countByReceiverIdAndIsReadFalseAndDeletedFalse(memberId);
+        Long cached = unreadCountCache.get(memberId);
+        if (cached != null) {
+            return cached;
+        }
+
+        // 캐시에 없으면 DB에서 조회 후 적재
+        Long count = notificationRepository.countByReceiverIdAndIsReadFalseAndDeletedFalse(memberId);
+        unreadCountCache.put(memberId, count);
+        return count;
     }
 }
@@ -1,9 +1,11 @@
 package com.http200ok.finbuddy.transaction.controller;
 
 import com.http200ok.finbuddy.category.dto.CategoryExpenseDto;
+import com.http200ok.finbuddy.common.dto.CursorPageResponseDto;
 import com.http200ok.finbuddy.common.dto.PagedResponseDto;
 import com.http200ok.finbuddy.security.CustomUserDetails;
 import com.http200ok.finbuddy.transaction.dto.CheckingAccountTransactionResponseDto;
+import com.http200ok.finbuddy.transaction.dto.MonthlyTransactionOverviewDto;
 import com.http200ok.finbuddy.transaction.dto.MonthlyTransactionSummaryDto;
 import com.http200ok.finbuddy.transaction.dto.TransactionResponseDto;
 import com.http200ok.finbuddy.transaction.service.TransactionService;
@@ -77,6 +79,23 @@ public class TransactionController {
         return ResponseEntity.ok(new PagedResponseDto<>(pagedTransactions));
     }
 
+    // 계좌 거래내역 커서 기반 조회 (무한 스크롤용, 첫 요청은 cursor 없이 호출)
+    @GetMapping("account/{accountId}/cursor")
+    public ResponseEntity<CursorPageResponseDto<TransactionResponseDto>> getTransactionsByAccountIdWithCursor(
+            @PathVariable("accountId") Long accountId,
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(value = "startDate", required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
+            @RequestParam(value = "endDate", required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate,
+            @RequestParam(value = "transactionType", required = false) Integer transactionType,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "10") int size) {
+
+        Long memberId = userDetails.getMemberId();
+        CursorPageResponseDto<TransactionResponseDto> transactions = transactionService.getTransactionsByAccountIdWithCursor(accountId, memberId, startDate, endDate, transactionType, cursor, size);
+
+        return ResponseEntity.ok(transactions);
+    }
+
     @GetMapping("/account/monthly-summary")
     public ResponseEntity<MonthlyTransactionSummaryDto> getMonthlySummary(
             @AuthenticationPrincipal CustomUserDetails userDetails,
@@ -89,4 +108,18 @@ public class TransactionController {
 
         return ResponseEntity.ok(summary);
     }
+
+    // 월별 입금/출금 합계와 카테고리별 지출 금액, 비율 통합 조회(월, 계좌)
+    @GetMapping("/account/monthly-overview")
+    public ResponseEntity<MonthlyTransactionOverviewDto> getMonthlyOverview(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam("accountId") Long accountId,
+            @RequestParam("year") int year,
+            @RequestParam("month") int month) {
+
+        Long memberId = userDetails.getMemberId();
+        MonthlyTransactionOverviewDto overview = transactionService.getMonthlyTransactionOverview(memberId, accountId, year, month);
+
+        return ResponseEntity.ok(overview);
+    }
 }
@@ -0,0 +1,61 @@
+package com.http200ok.finbuddy.transaction.domain;
+
+import com.http200ok.finbuddy.account.domain.AccountType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 월별 거래 집계 (회원 × 계좌 × 월 × 카테고리 × 거래유형)
+ * - 대시보드의 월별 합계/카테고리별 지출 조회는 원본 거래내역 대신 이 테이블을 읽음
+ * - 거래 저장 시점에 누적되며, 배치(transactionRollupRebuildJob)로 원본에서 재생성 가능
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_rollup_account_month_category_type",
+                columnNames = {"account_id", "month_start", "category_id", "transaction_type"}
+        ),
+        indexes = @Index(name = "idx_rollup_member_month", columnList = "member_id, month_start")
+)
+public class MonthlyTransactionRollup {
+
+    // 카테고리가 없는 거래를 집계할 때 사용하는 카테고리 ID
+    public static final Long NO_CATEGORY_ID = 0L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "rollup_id")
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "account_type", nullable = false)
+    private AccountType accountType;
+
+    // 집계 월의 1일
+    @Column(name = "month_start", nullable = false)
+    private LocalDate monthStart;
+
+    @Column(name = "category_id", nullable = false)
+    private Long categoryId;
+
+    @Column(name = "transaction_type", nullable = false)
+    private Integer transactionType; // 입금(1) or 출금(2)
+
+    @Column(name = "total_amount", nullable = false)
+    private Long totalAmount;
+
+    @Column(name = "transaction_count", nullable = false)
+    private Long transactionCount;
+}
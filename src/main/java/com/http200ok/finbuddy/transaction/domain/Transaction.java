@@ -13,6 +13,10 @@ import java.time.LocalDateTime;
 @Setter
 @Entity
 @NoArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_transaction_account_date", columnList = "account_id, transaction_date"),
+        @Index(name = "idx_transaction_account_type_date", columnList = "account_id, transaction_type, transaction_date")
+})
 public class Transaction {
 
     @Id
@@ -27,7 +31,7 @@ public class Transaction {
     @Column(nullable = false)
     private String opponentName;
 
-    @Column(nullable = false)
+    @Column(name = "transaction_type", nullable = false)
     private Integer transactionType; // 입금(1) or 출금(2)
 
     @Column(nullable = false)
@@ -35,6 +39,7 @@ public class Transaction {
 
     private Long updatedBalance;
 
+    @Column(name = "transaction_date")
     private LocalDateTime transactionDate;
 
     @ManyToOne
@@ -76,6 +81,24 @@ public class Transaction {
         return transaction;
     }
 
+    // 잔액이 이미 반영된 이체 거래내역 생성 (계좌 잔액/거래내역 컬렉션은 건드리지 않음)
+    public static Transaction createLedgerEntry(Account account, String opponentName, Long amount,
+                                                Integer transactionType, Category category, Long updatedBalance) {
+        if (transactionType != 1 && transactionType != 2) {
+            throw new IllegalArgumentException("유효하지 않은 거래 타입입니다. (1: 입금, 2: 출금)");
+        }
+
+        Transaction transaction = new Transaction();
+        transaction.setAccount(account);
+        transaction.setOpponentName(opponentName);
+        transaction.setTransactionType(transactionType);
+        transaction.setAmount(amount);
+        transaction.setUpdatedBalance(updatedBalance);
+        transaction.setTransactionDate(LocalDateTime.now());
+        transaction.setCategory(category);
+        return transaction;
+    }
+
     // 더미 데이터용 생성 메서드
     public static Transaction createDummyTransaction(
             Account account, Integer transactionType, Long amount,
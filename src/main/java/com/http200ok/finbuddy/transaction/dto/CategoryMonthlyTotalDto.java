@@ -0,0 +1,13 @@
+package com.http200ok.finbuddy.transaction.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 월별 집계 조회 결과 (카테고리별 입금/출금 합계)
+@Getter
+@AllArgsConstructor
+public class CategoryMonthlyTotalDto {
+    private String categoryName;   // 카테고리 없는 거래는 null
+    private Long depositAmount;    // 입금 합계
+    private Long withdrawalAmount; // 출금 합계
+}
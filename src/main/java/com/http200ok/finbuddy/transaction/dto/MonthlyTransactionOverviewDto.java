@@ -0,0 +1,19 @@
+package com.http200ok.finbuddy.transaction.dto;
+
+import com.http200ok.finbuddy.category.dto.CategoryExpenseDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class MonthlyTransactionOverviewDto {
+    private Long depositTotal;    // 입금 합계
+    private Long withdrawalTotal; // 출금 합계
+    private List<CategoryExpenseDto> categoryExpenses; // 카테고리별 출금 금액, 비율
+}
@@ -0,0 +1,133 @@
+package com.http200ok.finbuddy.transaction.repository;
+
+import com.http200ok.finbuddy.category.dto.CategoryExpenseDto;
+import com.http200ok.finbuddy.transaction.domain.MonthlyTransactionRollup;
+import com.http200ok.finbuddy.transaction.dto.CategoryMonthlyTotalDto;
+import com.http200ok.finbuddy.transaction.dto.MonthlyTransactionSummaryDto;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface MonthlyTransactionRollupRepository extends JpaRepository<MonthlyTransactionRollup, Long> {
+
+    // 집계 행이 없으면 생성하고, 있으면 금액/건수를 누적
+    @Modifying
+    @Query(value = """
+            INSERT INTO monthly_transaction_rollup
+                (member_id, account_id, account_type, month_start, category_id, transaction_type, total_amount, transaction_count)
+            VALUES
+                (:memberId, :accountId, :accountType, :monthStart, :categoryId, :transactionType, :amount, :count)
+            ON DUPLICATE KEY UPDATE
+                total_amount = total_amount + :amount,
+                transaction_count = transaction_count + :count
+            """, nativeQuery = true)
+    int upsertRollup(@Param("memberId") Long memberId,
+                     @Param("accountId") Long accountId,
+                     @Param("accountType") String accountType,
+                     @Param("monthStart") LocalDate monthStart,
+                     @Param("categoryId") Long categoryId,
+                     @Param("transactionType") Integer transactionType,
+                     @Param("amount") Long amount,
+                     @Param("count") Long count);
+
+    // 특정 회원의 집계 전체 삭제
+    @Modifying
+    @Query(value = "DELETE FROM monthly_transaction_rollup WHERE member_id = :memberId", nativeQuery = true)
+    int deleteAllByMemberId(@Param("memberId") Long memberId);
+
+    // 특정 회원의 원본 거래내역으로부터 집계 재생성
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            INSERT INTO monthly_transaction_rollup
+                (member_id, account_id, account_type, month_start, category_id, transaction_type, total_amount, transaction_count)
+            SELECT a.member_id,
+                   t.account_id,
+                   a.account_type,
+                   DATE_FORMAT(t.transaction_date, '%Y-%m-01'),
+                   COALESCE(t.category_id, 0),
+                   t.transaction_type,
+                   SUM(t.amount),
+                   COUNT(*)
+            FROM transaction t
+            JOIN account a ON a.account_id = t.account_id
+            WHERE a.member_id = :memberId
+            AND t.transaction_date IS NOT NULL
+            GROUP BY a.member_id, t.account_id, a.account_type,
+                     DATE_FORMAT(t.transaction_date, '%Y-%m-01'),
+                     COALESCE(t.category_id, 0), t.transaction_type
+            """, nativeQuery = true)
+    int insertRollupFromTransactions(@Param("memberId") Long memberId);
+
+    // 집계 재생성 대상 회원 ID 조회 (계좌를 보유한 회원, ID 순)
+    @Query(value = """
+            SELECT DISTINCT a.member_id FROM account a
+            WHERE a.member_id > :lastMemberId
+            ORDER BY a.member_id
+            LIMIT :size
+            """, nativeQuery = true)
+    List<Long> findMemberIdsWithAccountsAfter(@Param("lastMemberId") Long lastMemberId, @Param("size") int size);
+
+    // 특정 연-월의 Checking 계좌에서 카테고리별 출금 합계 조회
+    @Query("""
+            SELECT NEW com.http200ok.finbuddy.category.dto.CategoryExpenseDto(
+                c.name,
+                CAST(COALESCE(SUM(r.totalAmount), 0) AS long),
+                0.0)
+            FROM MonthlyTransactionRollup r
+            JOIN Category c ON c.id = r.categoryId
+            WHERE r.memberId = :memberId
+            AND r.accountType = 'CHECKING'
+            AND r.monthStart = :monthStart
+            AND r.transactionType = 2
+            GROUP BY c.name
+            """)
+    List<CategoryExpenseDto> sumAmountByCategoryForMonth(@Param("memberId") Long memberId,
+                                                         @Param("monthStart") LocalDate monthStart);
+
+    // 특정 연-월의 Checking 계좌에서 전체 출금 합계 조회
+    @Query("""
+            SELECT CAST(COALESCE(SUM(r.totalAmount), 0) AS long)
+            FROM MonthlyTransactionRollup r
+            WHERE r.memberId = :memberId
+            AND r.accountType = 'CHECKING'
+            AND r.monthStart = :monthStart
+            AND r.transactionType = 2
+            """)
+    Long sumTotalAmountForMonth(@Param("memberId") Long memberId,
+                                @Param("monthStart") LocalDate monthStart);
+
+    // 특정 연-월 계좌 별 입금/출금 합계 조회
+    @Query("""
+            SELECT NEW com.http200ok.finbuddy.transaction.dto.MonthlyTransactionSummaryDto(
+                CAST(COALESCE(SUM(CASE WHEN r.transactionType = 1 THEN r.totalAmount ELSE 0 END), 0) AS long),
+                CAST(COALESCE(SUM(CASE WHEN r.transactionType = 2 THEN r.totalAmount ELSE 0 END), 0) AS long))
+            FROM MonthlyTransactionRollup r
+            WHERE r.memberId = :memberId
+            AND r.accountId = :accountId
+            AND r.monthStart = :monthStart
+            """)
+    MonthlyTransactionSummaryDto getMonthlySummary(@Param("memberId") Long memberId,
+                                                   @Param("accountId") Long accountId,
+                                                   @Param("monthStart") LocalDate monthStart);
+
+    // 특정 연-월 계좌 별 카테고리별 입금/출금 합계를 한 번에 조회 (조건부 집계)
+    @Query("""
+            SELECT NEW com.http200ok.finbuddy.transaction.dto.CategoryMonthlyTotalDto(
+                c.name,
+                CAST(COALESCE(SUM(CASE WHEN r.transactionType = 1 THEN r.totalAmount ELSE 0 END), 0) AS long),
+                CAST(COALESCE(SUM(CASE WHEN r.transactionType = 2 THEN r.totalAmount ELSE 0 END), 0) AS long))
+            FROM MonthlyTransactionRollup r
+            LEFT JOIN Category c ON c.id = r.categoryId
+            WHERE r.memberId = :memberId
+            AND r.accountId = :accountId
+            AND r.monthStart = :monthStart
+            GROUP BY r.categoryId, c.name
+            """)
+    List<CategoryMonthlyTotalDto> sumAmountByCategoryAndTypeForMonth(@Param("memberId") Long memberId,
+                                                                     @Param("accountId") Long accountId,
+                                                                     @Param("monthStart") LocalDate monthStart);
+}
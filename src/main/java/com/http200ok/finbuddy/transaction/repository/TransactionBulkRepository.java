@@ -0,0 +1,50 @@
+package com.http200ok.finbuddy.transaction.repository;
+
+import com.http200ok.finbuddy.transaction.domain.Transaction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * 거래내역 대량 저장용 JDBC 레포지토리
+ * - Transaction은 IDENTITY 전략이라 Hibernate 배치 insert가 동작하지 않으므로 JdbcTemplate batchUpdate 사용
+ * - rewriteBatchedStatements=true 설정 시 MySQL 드라이버가 multi-row INSERT로 재작성
+ * - 저장된 엔티티에는 ID가 채워지지 않으며, 영속성 컨텍스트에도 포함되지 않음
+ */
+@Repository
+@RequiredArgsConstructor
+public class TransactionBulkRepository {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO transaction
+                (account_id, opponent_name, transaction_type, amount, updated_balance, transaction_date, category_id)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public int saveAll(List<Transaction> transactions) {
+        if (transactions.isEmpty()) {
+            return 0;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, transactions, BATCH_SIZE, (ps, transaction) -> {
+            ps.setLong(1, transaction.getAccount().getId());
+            ps.setString(2, transaction.getOpponentName());
+            ps.setInt(3, transaction.getTransactionType());
+            ps.setLong(4, transaction.getAmount());
+            ps.setObject(5, transaction.getUpdatedBalance(), Types.BIGINT);
+            ps.setTimestamp(6, transaction.getTransactionDate() != null ? Timestamp.valueOf(transaction.getTransactionDate()) : null);
+            ps.setObject(7, transaction.getCategory() != null ? transaction.getCategory().getId() : null, Types.BIGINT);
+        });
+
+        // rewriteBatchedStatements 사용 시 행별 결과가 SUCCESS_NO_INFO로 반환되므로 요청 건수를 반환
+        return transactions.size();
+    }
+}
@@ -5,13 +5,15 @@ import com.http200ok.finbuddy.transaction.domain.Transaction;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
-public interface TransactionRepository extends JpaRepository<Transaction, Long> {
+public interface TransactionRepository extends JpaRepository<Transaction, Long>, JpaSpecificationExecutor<Transaction> {
 
     // 특정 유저의 입출금 계좌에 한하여 거래 내역 최신순으로 반환
     @Query("""
@@ -24,7 +26,7 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
     """)
     Page<Transaction> findLatestTransactionsForUserCheckingAccounts(@Param("memberId") Long memberId, Pageable pageable);
 
-    // 특정 유저의 입출금 계좌에 한하여 당월 출금 내역 합산
+    // 특정 유저의 입출금 계좌에 한하여 당월 출금 내역 합산 (월 범위 [monthStart, nextMonthStart))
     @Query("""
     SELECT COALESCE(SUM(t.amount), 0) FROM Transaction t
     JOIN t.account a
@@ -32,20 +34,12 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
     WHERE m.id = :memberId
     AND a.accountType = 'CHECKING'
     AND t.transactionType = 2
-    AND FUNCTION('YEAR', t.transactionDate) = FUNCTION('YEAR', CURRENT_DATE)
-    AND FUNCTION('MONTH', t.transactionDate) = FUNCTION('MONTH', CURRENT_DATE)
+    AND t.transactionDate >= :monthStart
+    AND t.transactionDate < :nextMonthStart
     """)
-    Long getTotalSpendingForCurrentMonth(@Param("memberId") Long memberId);
-
-    @Query("SELECT t FROM Transaction t WHERE t.account.id = :accountId"
-            + " AND (:startDate IS NULL OR t.transactionDate >= :startDate)"
-            + " AND (:endDate IS NULL OR t.transactionDate <= :endDate)"
-            + " AND (:transactionType IS NULL OR t.transactionType = :transactionType)")
-    Page<Transaction> findTransactions(@Param("accountId") Long accountId,
-                                       @Param("startDate") LocalDateTime startDate,
-                                       @Param("endDate") LocalDateTime endDate,
-                                       @Param("transactionType") Integer transactionType,
-                                       Pageable pageable);
+    Long getTotalSpendingForCurrentMonth(@Param("memberId") Long memberId,
+                                         @Param("monthStart") LocalDateTime monthStart,
+                                         @Param("nextMonthStart") LocalDateTime nextMonthStart);
 
     // 특정 연-월, 특정 memberId의 Checking 계좌 트랜잭션 조회
     @Query("""
@@ -53,14 +47,14 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
             WHERE t.transactionType = 2
             AND t.account.member.id = :memberId
             AND t.account.accountType = 'CHECKING'
-            AND FUNCTION('YEAR', t.transactionDate) = :year
-            AND FUNCTION('MONTH', t.transactionDate) = :month
+            AND t.transactionDate >= :monthStart
+            AND t.transactionDate < :nextMonthStart
             ORDER BY t.transactionDate DESC
             """)
     List<Transaction> findTransactionByYearMonthForCheckingAccounts(
             @Param("memberId") Long memberId,
-            @Param("year") int year,
-            @Param("month") int month
+            @Param("monthStart") LocalDateTime monthStart,
+            @Param("nextMonthStart") LocalDateTime nextMonthStart
     );
 
     // 특정 연-월의 Checking 계좌에서 카테고리별 거래 금액 합계 조회
@@ -75,14 +69,14 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
             WHERE t.transactionType = 2
             AND m.id = :memberId
             AND a.accountType = 'CHECKING'
-            AND YEAR(t.transactionDate) = :year
-            AND MONTH(t.transactionDate) = :month
+            AND t.transactionDate >= :monthStart
+            AND t.transactionDate < :nextMonthStart
             GROUP BY t.category.name
             """)
     List<CategoryExpenseDto> sumAmountByCategoryForMonth(
             @Param("memberId") Long memberId,
-            @Param("year") int year,
-            @Param("month") int month
+            @Param("monthStart") LocalDateTime monthStart,
+            @Param("nextMonthStart") LocalDateTime nextMonthStart
     );
 
 
@@ -93,13 +87,13 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
             WHERE t.transactionType = 2
             AND t.account.member.id = :memberId
             AND t.account.accountType = 'CHECKING'
-            AND FUNCTION('YEAR', t.transactionDate) = :year
-            AND FUNCTION('MONTH', t.transactionDate) = :month
+            AND t.transactionDate >= :monthStart
+            AND t.transactionDate < :nextMonthStart
             """)
     Long sumTotalAmountForMonth(
             @Param("memberId") Long memberId,
-            @Param("year") int year,
-            @Param("month") int month
+            @Param("monthStart") LocalDateTime monthStart,
+            @Param("nextMonthStart") LocalDateTime nextMonthStart
     );
 
 
@@ -110,14 +104,14 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
             WHERE t.transactionType = 2
             AND t.account.member.id = :memberId
             AND t.account.id = :accountId
-            AND FUNCTION('YEAR', t.transactionDate) = :year
-            AND FUNCTION('MONTH', t.transactionDate) = :month
+            AND t.transactionDate >= :monthStart
+            AND t.transactionDate < :nextMonthStart
             """)
     Long getTotalSpendingForMonth(
             @Param("memberId") Long memberId,
             @Param("accountId") Long accountId,
-            @Param("year") int year,
-            @Param("month") int month
+            @Param("monthStart") LocalDateTime monthStart,
+            @Param("nextMonthStart") LocalDateTime nextMonthStart
     );
 
     // 특정 연-월 계좌 별로 전체 입금 amount 합계 조회
@@ -127,14 +121,14 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
             WHERE t.transactionType = 1
             AND t.account.member.id = :memberId
             AND t.account.id = :accountId
-            AND FUNCTION('YEAR', t.transactionDate) = :year
-            AND FUNCTION('MONTH', t.transactionDate) = :month
+            AND t.transactionDate >= :monthStart
+            AND t.transactionDate < :nextMonthStart
             """)
     Long getTotalIncomeForMonth(
             @Param("memberId") Long memberId,
             @Param("accountId") Long accountId,
-            @Param("year") int year,
-            @Param("month") int month
+            @Param("monthStart") LocalDateTime monthStart,
+            @Param("nextMonthStart") LocalDateTime nextMonthStart
     );
 
     // 특정 연-월의 계좌에서 카테고리별 거래 금액 합계 조회
@@ -149,15 +143,15 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
             WHERE t.transactionType = 2
             AND m.id = :memberId
             AND a.id = :accountId
-            AND YEAR(t.transactionDate) = :year
-            AND MONTH(t.transactionDate) = :month
+            AND t.transactionDate >= :monthStart
+            AND t.transactionDate < :nextMonthStart
             GROUP BY t.category.name
             """)
     List<CategoryExpenseDto> getTotalSpendingByCategoryForMonth(
             @Param("memberId") Long memberId,
             @Param("accountId") Long accountId,
-            @Param("year") int year,
-            @Param("month") int month
+            @Param("monthStart") LocalDateTime monthStart,
+            @Param("nextMonthStart") LocalDateTime nextMonthStart
     );
 
     @Query("""
@@ -166,17 +160,22 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
         JOIN a.member m
         WHERE m.id = :memberId
         AND a.accountType = 'CHECKING'
-        AND FUNCTION('YEAR', t.transactionDate) = :year
-        AND FUNCTION('MONTH', t.transactionDate) = :month
+        AND t.transactionDate >= :monthStart
+        AND t.transactionDate < :nextMonthStart
         ORDER BY t.transactionDate DESC
     """)
     List<Transaction> findLatestTransactionsForUserCheckingAccountsInMonth(
             @Param("memberId") Long memberId,
-            @Param("year") int year,
-            @Param("month") int month
+            @Param("monthStart") LocalDateTime monthStart,
+            @Param("nextMonthStart") LocalDateTime nextMonthStart
     );
 
     List<Transaction> findByAccountId(Long id);
 
     int deleteByAccountId(Long id);
+
+    // 계좌 목록의 거래내역을 엔티티 로딩 없이 최대 :limit 건씩 삭제 (한 번에 잡는 락/언두 로그 크기 제한)
+    @Modifying
+    @Query(value = "DELETE FROM transaction WHERE account_id IN (:accountIds) LIMIT :limit", nativeQuery = true)
+    int deleteChunkByAccountIds(@Param("accountIds") List<Long> accountIds, @Param("limit") int limit);
 }
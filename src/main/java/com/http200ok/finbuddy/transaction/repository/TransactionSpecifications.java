@@ -0,0 +1,71 @@
+package com.http200ok.finbuddy.transaction.repository;
+
+import com.http200ok.finbuddy.transaction.domain.Transaction;
+import jakarta.persistence.criteria.JoinType;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+/**
+ * 거래내역 동적 조회 조건
+ * - 전달된 조건만 WHERE 절에 포함시켜, 조건 조합마다 인덱스를 활용하는 실행 계획이 선택되도록 함
+ *   (":param IS NULL OR ..." 형태의 조건은 MySQL이 하나의 계획으로 모든 조합을 처리해야 해서 인덱스를 타지 못함)
+ */
+public final class TransactionSpecifications {
+
+    private TransactionSpecifications() {
+    }
+
+    // 계좌 + 선택 조건(기간, 거래 유형)으로 거래내역 조회 조건 생성
+    public static Specification<Transaction> accountTransactions(Long accountId, LocalDateTime startDate,
+                                                                 LocalDateTime endDate, Integer transactionType) {
+        Specification<Transaction> spec = Specification.where(accountIdEquals(accountId));
+        if (startDate != null) {
+            spec = spec.and(transactionDateFrom(startDate));
+        }
+        if (endDate != null) {
+            spec = spec.and(transactionDateTo(endDate));
+        }
+        if (transactionType != null) {
+            spec = spec.and(transactionTypeEquals(transactionType));
+        }
+        return spec;
+    }
+
+    public static Specification<Transaction> accountIdEquals(Long accountId) {
+        return (root, query, cb) -> cb.equal(root.get("account").get("id"), accountId);
+    }
+
+    public static Specification<Transaction> transactionDateFrom(LocalDateTime startDate) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("transactionDate"), startDate);
+    }
+
+    public static Specification<Transaction> transactionDateTo(LocalDateTime endDate) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("transactionDate"), endDate);
+    }
+
+    public static Specification<Transaction> transactionTypeEquals(Integer transactionType) {
+        return (root, query, cb) -> cb.equal(root.get("transactionType"), transactionType);
+    }
+
+    // (transactionDate, id) 키셋 커서 이후의 거래내역 (최신순 정렬 기준)
+    public static Specification<Transaction> beforeCursor(LocalDateTime cursorDate, Long cursorId) {
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("transactionDate"), cursorDate),
+                cb.and(
+                        cb.equal(root.get("transactionDate"), cursorDate),
+                        cb.lessThan(root.get("id"), cursorId)
+                )
+        );
+    }
+
+    // 카테고리 함께 조회 (COUNT 쿼리에는 fetch join을 적용하지 않음)
+    public static Specification<Transaction> fetchCategory() {
+        return (root, query, cb) -> {
+            if (query != null && query.getResultType() != Long.class && query.getResultType() != long.class) {
+                root.fetch("category", JoinType.LEFT);
+            }
+            return null;
+        };
+    }
+}
@@ -2,6 +2,7 @@ package com.http200ok.finbuddy.transaction.service;
 
 import com.http200ok.finbuddy.account.domain.Account;
 import com.http200ok.finbuddy.account.repository.AccountRepository;
+import com.http200ok.finbuddy.account.service.AccountBalanceService;
 import com.http200ok.finbuddy.category.domain.Category;
 import com.http200ok.finbuddy.category.repository.CategoryRepository;
 import com.http200ok.finbuddy.transaction.domain.Transaction;
@@ -28,6 +29,8 @@ public class AccountTransactionServiceImpl implements AccountTransactionService
     private final AccountRepository accountRepository;
     private final CategoryRepository categoryRepository;
     private final TransactionFixService transactionFixService;
+    private final TransactionRollupService transactionRollupService;
+    private final AccountBalanceService accountBalanceService;
 
     private static final int INCOME_TYPE = 1;
     private static final int EXPENSE_TYPE = 2;
@@ -37,6 +40,7 @@ public class AccountTransactionServiceImpl implements AccountTransactionService
      * 두 계좌 간 이체 처리 (출금 계좌에서 입금 계좌로)
      * 적금/예금 납입의 경우에도 사용
      * 이체 거래내역은 출금 계좌에만 생성하고 입금 계좌에는 생성하지 않음
+     * 잔액은 조건부 UPDATE로 DB에서 직접 변경하므로 전달된 Account 엔티티의 balance는 갱신되지 않음
      */
     @Transactional
     public void transferBetweenAccounts(Account fromAccount, Account toAccount,
@@ -45,38 +49,31 @@ public class AccountTransactionServiceImpl implements AccountTransactionService
         Category transferCategory = categoryRepository.findById(TRANSFER_CATEGORY_ID)
                 .orElseThrow(() -> new RuntimeException("이체 카테고리를 찾을 수 없습니다: " + TRANSFER_CATEGORY_ID));
 
-        // 현재 출금 계좌 잔액 확인
-        long fromAccountBalance = fromAccount.getBalance();
-
-        // 출금 가능 여부 확인
-        if (fromAccountBalance < amount) {
-            throw new RuntimeException("출금 계좌 잔액이 부족합니다. 현재 잔액: " + fromAccountBalance + ", 이체 금액: " + amount);
+        // 출금/입금 계좌 잔액 변경 (계좌 ID 오름차순으로 UPDATE, 잔액 부족 시 InsufficientBalanceException)
+        long fromAccountBalance;
+        if (fromAccount.getId() < toAccount.getId()) {
+            fromAccountBalance = accountBalanceService.debit(fromAccount.getId(), amount);
+            accountBalanceService.credit(toAccount.getId(), amount);
+        } else {
+            accountBalanceService.credit(toAccount.getId(), amount);
+            fromAccountBalance = accountBalanceService.debit(fromAccount.getId(), amount);
         }
 
-        // 출금 계좌 잔액 감소
-        fromAccount.setBalance(fromAccountBalance - amount);
-        accountRepository.save(fromAccount);
-
-        // 입금 계좌 잔액 증가
-        long toAccountBalance = toAccount.getBalance();
-        toAccount.setBalance(toAccountBalance + amount);
-        accountRepository.save(toAccount);
-
         // 이체 설명에 입금 계좌 정보 포함
         String fullDescription = description + " (" + toAccount.getAccountName() + ")";
 
         // 출금 계좌에만 거래내역 생성 (이체 출금)
-        Transaction outTransaction = Transaction.createDummyTransaction(
+        Transaction outTransaction = Transaction.createLedgerEntry(
                 fromAccount,
-                EXPENSE_TYPE,
+                fullDescription,
                 amount,
+                EXPENSE_TYPE,
                 transferCategory,
-                LocalDateTime.now(),
-                fullDescription,
-                fromAccountBalance - amount
+                fromAccountBalance
         );
 
         transactionRepository.save(outTransaction);
+        transactionRollupService.applyTransaction(outTransaction);
 
         log.info("계좌 간 이체 완료: {}에서 {}로 {}원 이체됨",
                 fromAccount.getAccountName(), toAccount.getAccountName(), amount);
@@ -162,6 +159,9 @@ public class AccountTransactionServiceImpl implements AccountTransactionService
                 newBalance
         );
 
-        return transactionRepository.save(transaction);
+        Transaction savedTransaction = transactionRepository.save(transaction);
+        transactionRollupService.applyTransaction(savedTransaction);
+
+        return savedTransaction;
     }
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.http200ok.finbuddy.transaction.service;
+
+import com.http200ok.finbuddy.transaction.domain.Transaction;
+
+import java.util.List;
+
+public interface TransactionRollupService {
+    void applyTransaction(Transaction transaction);
+    void applyTransactions(List<Transaction> transactions);
+    void rebuildForMember(Long memberId);
+    int deleteForMember(Long memberId);
+}
@@ -0,0 +1,117 @@
+package com.http200ok.finbuddy.transaction.service;
+
+import com.http200ok.finbuddy.account.domain.Account;
+import com.http200ok.finbuddy.transaction.domain.MonthlyTransactionRollup;
+import com.http200ok.finbuddy.transaction.domain.Transaction;
+import com.http200ok.finbuddy.transaction.repository.MonthlyTransactionRollupRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 월별 거래 집계(MonthlyTransactionRollup) 관리 서비스
+ * - 거래 저장 시 호출하여 집계를 누적
+ * - 대량 생성/수정 이후에는 회원 단위로 원본에서 재생성
+ */
+@Service
+@RequiredArgsConstructor
+public class TransactionRollupServiceImpl implements TransactionRollupService {
+
+    private final MonthlyTransactionRollupRepository rollupRepository;
+
+    /**
+     * 저장된 거래 1건을 월별 집계에 반영
+     * 거래를 저장한 트랜잭션 안에서 호출해야 거래와 집계가 함께 커밋/롤백됨
+     */
+    @Override
+    @Transactional
+    public void applyTransaction(Transaction transaction) {
+        if (transaction.getTransactionDate() == null) {
+            return;
+        }
+
+        Account account = transaction.getAccount();
+        Long categoryId = transaction.getCategory() != null
+                ? transaction.getCategory().getId()
+                : MonthlyTransactionRollup.NO_CATEGORY_ID;
+
+        rollupRepository.upsertRollup(
+                account.getMember().getId(),
+                account.getId(),
+                account.getAccountType().name(),
+                transaction.getTransactionDate().toLocalDate().withDayOfMonth(1),
+                categoryId,
+                transaction.getTransactionType(),
+                transaction.getAmount(),
+                1L
+        );
+    }
+
+    /**
+     * 저장된 거래 여러 건을 월별 집계에 반영
+     * - (계좌, 월, 카테고리, 거래유형)별로 먼저 합산하여 집계 행마다 UPSERT 한 번만 실행
+     */
+    @Override
+    @Transactional
+    public void applyTransactions(List<Transaction> transactions) {
+        Map<RollupKey, long[]> totals = new LinkedHashMap<>();
+        Map<Long, Account> accounts = new HashMap<>();
+
+        for (Transaction transaction : transactions) {
+            if (transaction.getTransactionDate() == null) {
+                continue;
+            }
+            Account account = transaction.getAccount();
+            accounts.putIfAbsent(account.getId(), account);
+
+            RollupKey key = new RollupKey(
+                    account.getId(),
+                    transaction.getTransactionDate().toLocalDate().withDayOfMonth(1),
+                    transaction.getCategory() != null ? transaction.getCategory().getId() : MonthlyTransactionRollup.NO_CATEGORY_ID,
+                    transaction.getTransactionType()
+            );
+            long[] total = totals.computeIfAbsent(key, k -> new long[2]);
+            total[0] += transaction.getAmount();
+            total[1]++;
+        }
+
+        totals.forEach((key, total) -> {
+            Account account = accounts.get(key.accountId());
+            rollupRepository.upsertRollup(
+                    account.getMember().getId(),
+                    account.getId(),
+                    account.getAccountType().name(),
+                    key.monthStart(),
+                    key.categoryId(),
+                    key.transactionType(),
+                    total[0],
+                    total[1]
+            );
+        });
+    }
+
+    private record RollupKey(Long accountId, LocalDate monthStart, Long categoryId, Integer transactionType) {
+    }
+
+    /**
+     * 회원의 집계를 원본 거래내역으로부터 다시 생성
+     */
+    @Override
+    @Transactional
+    public void rebuildForMember(Long memberId) {
+        rollupRepository.deleteAllByMemberId(memberId);
+        rollupRepository.insertRollupFromTransactions(memberId);
+    }
+
+    @Override
+    @Transactional
+    public int deleteForMember(Long memberId) {
+        return rollupRepository.deleteAllByMemberId(memberId);
+    }
+}
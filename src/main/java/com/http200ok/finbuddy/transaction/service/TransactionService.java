@@ -1,7 +1,9 @@
 package com.http200ok.finbuddy.transaction.service;
 
 import com.http200ok.finbuddy.category.dto.CategoryExpenseDto;
+import com.http200ok.finbuddy.common.dto.CursorPageResponseDto;
 import com.http200ok.finbuddy.transaction.dto.CheckingAccountTransactionResponseDto;
+import com.http200ok.finbuddy.transaction.dto.MonthlyTransactionOverviewDto;
 import com.http200ok.finbuddy.transaction.dto.MonthlyTransactionSummaryDto;
 import com.http200ok.finbuddy.transaction.dto.TransactionResponseDto;
 import org.springframework.data.domain.Page;
@@ -15,5 +17,7 @@ public interface TransactionService {
     List<CategoryExpenseDto> categoryExpensesForMonth(Long memberId, int year, int month);
     List<CategoryExpenseDto> categoryExpensesForAccountAndMonth(Long memberId, Long accountId, int year, int month);
     Page<TransactionResponseDto> getTransactionsByAccountId(Long accountId, Long memberId, LocalDate startDate, LocalDate endDate, Integer transactionType, Pageable pageable);
+    CursorPageResponseDto<TransactionResponseDto> getTransactionsByAccountIdWithCursor(Long accountId, Long memberId, LocalDate startDate, LocalDate endDate, Integer transactionType, String cursor, int size);
     MonthlyTransactionSummaryDto getMonthlyTransactionSummary(Long memberId, Long accountId, int year, int month);
+    MonthlyTransactionOverviewDto getMonthlyTransactionOverview(Long memberId, Long accountId, int year, int month);
 }
@@ -1,16 +1,24 @@
 package com.http200ok.finbuddy.transaction.service;
 
 import com.http200ok.finbuddy.category.dto.CategoryExpenseDto;
+import com.http200ok.finbuddy.common.dto.CursorPageResponseDto;
+import com.http200ok.finbuddy.common.dto.DateTimeCursor;
 import com.http200ok.finbuddy.common.validator.AccountValidator;
 import com.http200ok.finbuddy.transaction.domain.Transaction;
+import com.http200ok.finbuddy.transaction.dto.CategoryMonthlyTotalDto;
 import com.http200ok.finbuddy.transaction.dto.CheckingAccountTransactionResponseDto;
 import com.http200ok.finbuddy.transaction.dto.TransactionResponseDto;
+import com.http200ok.finbuddy.transaction.dto.MonthlyTransactionOverviewDto;
 import com.http200ok.finbuddy.transaction.dto.MonthlyTransactionSummaryDto;
+import com.http200ok.finbuddy.transaction.repository.MonthlyTransactionRollupRepository;
 import com.http200ok.finbuddy.transaction.repository.TransactionRepository;
+import com.http200ok.finbuddy.transaction.repository.TransactionSpecifications;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,8 +35,12 @@ import java.util.stream.Collectors;
 public class TransactionServiceImpl implements TransactionService {
 
     private final TransactionRepository transactionRepository;
+    private final MonthlyTransactionRollupRepository rollupRepository;
     private final AccountValidator accountValidator;
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final Sort CURSOR_SORT = Sort.by(Sort.Direction.DESC, "transactionDate", "id");
+
     @Override
     public List<CheckingAccountTransactionResponseDto> getLatestTransactionsForUserCheckingAccounts(Long memberId) {
         Pageable pageable = PageRequest.of(0, 5);
@@ -43,14 +55,16 @@ public class TransactionServiceImpl implements TransactionService {
 
     @Override
     public List<CategoryExpenseDto> categoryExpensesForMonth(Long memberId, int year, int month) {
-        // 전체 소비 금액 조회
-        Long totalAmount = transactionRepository.sumTotalAmountForMonth(memberId, year, month);
+        LocalDate monthStart = LocalDate.of(year, month, 1);
+
+        // 전체 소비 금액 조회 (월별 집계 테이블 사용)
+        Long totalAmount = rollupRepository.sumTotalAmountForMonth(memberId, monthStart);
         if (totalAmount == null || totalAmount == 0) {
             return Collections.emptyList();
         }
 
-        // 카테고리별 합계 조회
-        List<CategoryExpenseDto> categorySums = transactionRepository.sumAmountByCategoryForMonth(memberId, year, month);
+        // 카테고리별 합계 조회 (월별 집계 테이블 사용)
+        List<CategoryExpenseDto> categorySums = rollupRepository.sumAmountByCategoryForMonth(memberId, monthStart);
 
         // 각 카테고리별 금액을 전체 금액으로 나누어 비율 계산
         return categorySums.stream()
@@ -64,20 +78,7 @@ public class TransactionServiceImpl implements TransactionService {
 
     @Override
     public List<CategoryExpenseDto> categoryExpensesForAccountAndMonth(Long memberId, Long accountId, int year, int month) {
-        Long totalAmount = transactionRepository.getTotalSpendingForMonth(memberId, accountId, year, month);
-        if (totalAmount == null || totalAmount == 0) {
-            return Collections.emptyList();
-        }
-
-        List<CategoryExpenseDto> categorySums = transactionRepository.getTotalSpendingByCategoryForMonth(memberId, accountId, year, month);
-
-        return categorySums.stream()
-                .map(dto -> new CategoryExpenseDto(
-                        dto.getCategoryName(),
-                        dto.getTotalAmount(),
-                        totalAmount > 0 ? (dto.getTotalAmount().doubleValue() / totalAmount.doubleValue()) * 100.0 : 0.0
-                ))
-                .collect(Collectors.toList());
+        return getMonthlyTransactionOverview(memberId, accountId, year, month).getCategoryExpenses();
     }
 
     @Override
@@ -90,14 +91,88 @@ public class TransactionServiceImpl implements TransactionService {
         LocalDateTime startDateTime = startDate != null ? startDate.atStartOfDay() : null;
         LocalDateTime endDateTime = endDate != null ? endDate.atTime(LocalTime.MAX) : null;
 
-        return transactionRepository.findTransactions(accountId, startDateTime, endDateTime, transactionType, pageable)
+        // 전달된 조건만 포함하는 동적 쿼리로 조회
+        Specification<Transaction> spec = TransactionSpecifications.accountTransactions(accountId, startDateTime, endDateTime, transactionType);
+
+        return transactionRepository.findAll(spec, pageable)
                 .map(TransactionResponseDto::fromEntity);
     }
 
+    /**
+     * 계좌 거래내역 커서 기반 조회 (무한 스크롤용)
+     * - (transactionDate, id) 키셋으로 다음 페이지를 찾으므로 페이지 깊이와 무관하게 일정한 비용
+     * - COUNT 쿼리 없이 size + 1건을 조회하여 다음 페이지 존재 여부 판단
+     */
+    @Override
+    public CursorPageResponseDto<TransactionResponseDto> getTransactionsByAccountIdWithCursor(Long accountId, Long memberId, LocalDate startDate, LocalDate endDate, Integer transactionType, String cursor, int size) {
+
+        // AccountValidator를 사용하여 계좌 소유권 검증
+        accountValidator.validateAndGetAccount(accountId, memberId);
+
+        int pageSize = Math.clamp(size, 1, MAX_CURSOR_PAGE_SIZE);
+
+        // LocalDate -> LocalDateTime 변환
+        LocalDateTime startDateTime = startDate != null ? startDate.atStartOfDay() : null;
+        LocalDateTime endDateTime = endDate != null ? endDate.atTime(LocalTime.MAX) : null;
+
+        // 전달된 조건만 포함하는 동적 쿼리 + 커서 조건
+        Specification<Transaction> spec = TransactionSpecifications.accountTransactions(accountId, startDateTime, endDateTime, transactionType)
+                .and(TransactionSpecifications.fetchCategory());
+        if (cursor != null && !cursor.isBlank()) {
+            DateTimeCursor decoded = DateTimeCursor.decode(cursor);
+            spec = spec.and(TransactionSpecifications.beforeCursor(decoded.dateTime(), decoded.id()));
+        }
+
+        List<Transaction> transactions = transactionRepository.findBy(spec, query -> query
+                .sortBy(CURSOR_SORT)
+                .limit(pageSize + 1)
+                .all());
+
+        boolean hasNext = transactions.size() > pageSize;
+        List<Transaction> page = hasNext ? transactions.subList(0, pageSize) : transactions;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Transaction last = page.getLast();
+            nextCursor = new DateTimeCursor(last.getTransactionDate(), last.getId()).encode();
+        }
+
+        List<TransactionResponseDto> content = page.stream()
+                .map(TransactionResponseDto::fromEntity)
+                .collect(Collectors.toList());
+
+        return new CursorPageResponseDto<>(content, content.size(), hasNext, nextCursor);
+    }
+
     public MonthlyTransactionSummaryDto getMonthlyTransactionSummary(Long memberId, Long accountId, int year, int month) {
-        Long totalSpending = transactionRepository.getTotalSpendingForMonth(memberId, accountId, year, month);
-        Long totalIncome = transactionRepository.getTotalIncomeForMonth(memberId, accountId, year, month);
+        // 월별 집계 테이블에서 입금/출금 합계를 한 번에 조회
+        return rollupRepository.getMonthlySummary(memberId, accountId, LocalDate.of(year, month, 1));
+    }
+
+    /**
+     * 계좌의 월별 입금 합계, 출금 합계, 카테고리별 출금 금액/비율을 한 번의 조회로 반환
+     */
+    @Override
+    public MonthlyTransactionOverviewDto getMonthlyTransactionOverview(Long memberId, Long accountId, int year, int month) {
+        List<CategoryMonthlyTotalDto> categoryTotals =
+                rollupRepository.sumAmountByCategoryAndTypeForMonth(memberId, accountId, LocalDate.of(year, month, 1));
+
+        // 입금/출금 합계 (카테고리 없는 거래 포함)
+        long depositTotal = categoryTotals.stream().mapToLong(CategoryMonthlyTotalDto::getDepositAmount).sum();
+        long withdrawalTotal = categoryTotals.stream().mapToLong(CategoryMonthlyTotalDto::getWithdrawalAmount).sum();
+
+        // 카테고리별 출금 금액과 비율
+        List<CategoryExpenseDto> categoryExpenses = withdrawalTotal == 0
+                ? Collections.emptyList()
+                : categoryTotals.stream()
+                .filter(dto -> dto.getCategoryName() != null && dto.getWithdrawalAmount() > 0)
+                .map(dto -> new CategoryExpenseDto(
+                        dto.getCategoryName(),
+                        dto.getWithdrawalAmount(),
+                        (dto.getWithdrawalAmount().doubleValue() / withdrawalTotal) * 100.0
+                ))
+                .collect(Collectors.toList());
 
-        return new MonthlyTransactionSummaryDto(totalIncome, totalSpending);
+        return new MonthlyTransactionOverviewDto(depositTotal, withdrawalTotal, categoryExpenses);
     }
 }
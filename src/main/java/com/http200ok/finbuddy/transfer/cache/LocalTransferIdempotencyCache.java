@@ -0,0 +1,50 @@
+package com.http200ok.finbuddy.transfer.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 단일 노드용 멱등성 키 캐시 (JVM 메모리)
+ */
+@Component
+@ConditionalOnProperty(name = "transfer.idempotency.redis.enabled", havingValue = "false", matchIfMissing = true)
+public class LocalTransferIdempotencyCache implements TransferIdempotencyCache {
+
+    private static final long TTL_MILLIS = Duration.ofHours(24).toMillis();
+
+    private final Map<String, CachedFingerprint> fingerprints = new ConcurrentHashMap<>();
+
+    @Override
+    public String get(Long memberId, String idempotencyKey) {
+        CachedFingerprint cached = fingerprints.get(key(memberId, idempotencyKey));
+        if (cached == null || cached.expiresAt() < System.currentTimeMillis()) {
+            return null;
+        }
+        return cached.requestFingerprint();
+    }
+
+    @Override
+    public void put(Long memberId, String idempotencyKey, String requestFingerprint) {
+        fingerprints.put(key(memberId, idempotencyKey),
+                new CachedFingerprint(requestFingerprint, System.currentTimeMillis() + TTL_MILLIS));
+    }
+
+    // 10분마다 만료된 키 정리
+    @Scheduled(fixedDelay = 600_000)
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        fingerprints.values().removeIf(cached -> cached.expiresAt() < now);
+    }
+
+    private String key(Long memberId, String idempotencyKey) {
+        return memberId + ":" + idempotencyKey;
+    }
+
+    private record CachedFingerprint(String requestFingerprint, long expiresAt) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.http200ok.finbuddy.transfer.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 다중 노드용 멱등성 키 캐시 (Redis)
+ * - 다른 서버에서 처리된 이체의 재요청도 DB 조회 없이 응답
+ */
+@Component
+@ConditionalOnProperty(name = "transfer.idempotency.redis.enabled", havingValue = "true")
+public class RedisTransferIdempotencyCache implements TransferIdempotencyCache {
+
+    private static final String KEY_PREFIX = "transfer:idempotency:";
+    private static final Duration TTL = Duration.ofHours(24);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisTransferIdempotencyCache(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public String get(Long memberId, String idempotencyKey) {
+        return redisTemplate.opsForValue().get(key(memberId, idempotencyKey));
+    }
+
+    @Override
+    public void put(Long memberId, String idempotencyKey, String requestFingerprint) {
+        redisTemplate.opsForValue().set(key(memberId, idempotencyKey), requestFingerprint, TTL);
+    }
+
+    private String key(Long memberId, String idempotencyKey) {
+        return KEY_PREFIX + memberId + ":" + idempotencyKey;
+    }
+}
@@ -0,0 +1,11 @@
+package com.http200ok.finbuddy.transfer.cache;
+
+/**
+ * 완료된 이체의 멱등성 키 캐시 (키 -> 요청 내용)
+ * - 재요청을 DB 조회 없이 바로 응답하기 위한 용도, 원본은 TransferIdempotencyRecord
+ */
+public interface TransferIdempotencyCache {
+    // 캐시에 없으면 null
+    String get(Long memberId, String idempotencyKey);
+    void put(Long memberId, String idempotencyKey, String requestFingerprint);
+}
@@ -4,6 +4,7 @@ import com.http200ok.finbuddy.account.dto.CheckingAccountResponseDto;
 import com.http200ok.finbuddy.account.dto.ReceivingAccountResponseDto;
 import com.http200ok.finbuddy.budget.service.BudgetService;
 import com.http200ok.finbuddy.security.CustomUserDetails;
+import com.http200ok.finbuddy.transfer.dto.BatchTransferRequestDto;
 import com.http200ok.finbuddy.transfer.dto.TransferRequestDto;
 import com.http200ok.finbuddy.transfer.service.TransferService;
 import lombok.RequiredArgsConstructor;
@@ -39,9 +40,11 @@ public class TransferController {
         return ResponseEntity.ok(receivingAccount);
     }
 
-    // 계좌 이체 API
+    // 계좌 이체 API (Idempotency-Key 헤더가 있으면 같은 키의 재요청은 다시 이체하지 않음)
     @PostMapping
-    public ResponseEntity<?> executeTransfer(@RequestBody TransferRequestDto transferRequestDto, @AuthenticationPrincipal CustomUserDetails userDetails) {
+    public ResponseEntity<?> executeTransfer(@RequestBody TransferRequestDto transferRequestDto,
+                                             @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+                                             @AuthenticationPrincipal CustomUserDetails userDetails) {
         Long memberId = userDetails.getMemberId();
 
         boolean result = transferService.executeAccountTransfer(
@@ -52,7 +55,8 @@ public class TransferController {
                 transferRequestDto.getAmount(),
                 transferRequestDto.getPassword(),
                 transferRequestDto.getSenderName(),
-                transferRequestDto.getReceiverName()
+                transferRequestDto.getReceiverName(),
+                idempotencyKey
         );
 
         // 이체 성공 후 예산 초과 확인 및 알림 전송
@@ -67,4 +71,23 @@ public class TransferController {
         return ResponseEntity.ok(response);
     }
 
+    // 일괄 이체 API (한 출금 계좌에서 여러 계좌로, 전부 성공 또는 전부 실패)
+    @PostMapping("/batch")
+    public ResponseEntity<?> executeBatchTransfer(@RequestBody BatchTransferRequestDto batchTransferRequestDto,
+                                                  @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+                                                  @AuthenticationPrincipal CustomUserDetails userDetails) {
+        Long memberId = userDetails.getMemberId();
+
+        int transferCount = transferService.executeBatchTransfer(memberId, batchTransferRequestDto, idempotencyKey);
+
+        // 이체 성공 후 예산 초과 확인 및 알림 전송
+        budgetService.checkAndNotifyBudgetExceededOnTransaction(memberId);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("transferCount", transferCount);
+        response.put("message", transferCount + "건의 이체가 성공적으로 완료되었습니다.");
+
+        return ResponseEntity.ok(response);
+    }
 }
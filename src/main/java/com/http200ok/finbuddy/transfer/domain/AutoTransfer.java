@@ -6,13 +6,26 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        // 재시도 대상(FAILED + 재시도 시각 도래) 조회용
+        @Index(name = "idx_auto_transfer_status_next_retry", columnList = "status, next_retry_at")
+})
 public class AutoTransfer {
 
+    // 최대 재시도 횟수 (초과 시 더 이상 자동 재시도하지 않음)
+    public static final int MAX_RETRY_COUNT = 5;
+
+    // 첫 재시도 대기 시간 (이후 재시도마다 2배씩 증가)
+    private static final Duration BASE_RETRY_DELAY = Duration.ofHours(1);
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "auto_transfer_id")
@@ -43,6 +56,18 @@ public class AutoTransfer {
     @Column(nullable = false)
     private AutoTransferStatus status;
 
+    // 실패 후 재시도한 횟수
+    @Column(nullable = false)
+    private int retryCount;
+
+    // 다음 재시도 가능 시각 (null이면 재시도 대상 아님)
+    @Column(name = "next_retry_at")
+    private LocalDateTime nextRetryAt;
+
+    // 실패한 회차의 예정일 (재시도 시 같은 회차의 멱등 키를 만들기 위해 보관)
+    @Column(name = "due_date")
+    private LocalDate dueDate;
+
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -65,6 +90,7 @@ public class AutoTransfer {
         this.amount = amount;
         this.transferDay = transferDay;
         this.status = AutoTransferStatus.ACTIVE;
+        resetRetry();
         this.updatedAt = LocalDateTime.now();
     }
 
@@ -76,6 +102,7 @@ public class AutoTransfer {
             this.status = AutoTransferStatus.ACTIVE;
         } else if (this.status == AutoTransferStatus.FAILED) {
             this.status = AutoTransferStatus.ACTIVE;
+            resetRetry();
         }
         this.updatedAt = LocalDateTime.now();
     }
@@ -83,10 +110,33 @@ public class AutoTransfer {
     public void markAsFailed() {
         this.status = AutoTransferStatus.FAILED;
         this.updatedAt = LocalDateTime.now();
+        this.retryCount = 0;
+        this.nextRetryAt = nextRetryTime(0, this.updatedAt);
     }
 
     public void markAsActive() {
         this.status = AutoTransferStatus.ACTIVE;
         this.updatedAt = LocalDateTime.now();
+        resetRetry();
+    }
+
+    private void resetRetry() {
+        this.retryCount = 0;
+        this.nextRetryAt = null;
+        this.dueDate = null;
+    }
+
+    /**
+     * 다음 재시도 시각 계산 (지수 백오프: 1시간, 2시간, 4시간, ...)
+     * - 재시도 배치가 정시마다 시간 단위로 잘라서 조회하므로 실패 시각도 시간 단위로 잘라서 계산
+     * @param retryCount 지금까지 재시도한 횟수
+     * @param failedAt 실패 시각
+     * @return 다음 재시도 시각, 최대 재시도 횟수에 도달했으면 null
+     */
+    public static LocalDateTime nextRetryTime(int retryCount, LocalDateTime failedAt) {
+        if (retryCount >= MAX_RETRY_COUNT) {
+            return null;
+        }
+        return failedAt.truncatedTo(ChronoUnit.HOURS).plus(BASE_RETRY_DELAY.multipliedBy(1L << retryCount));
     }
 }
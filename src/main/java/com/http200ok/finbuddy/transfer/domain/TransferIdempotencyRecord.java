@@ -0,0 +1,52 @@
+package com.http200ok.finbuddy.transfer.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 완료된 이체의 멱등성 키 기록
+ * - 이체와 같은 트랜잭션에서 저장되므로, 기록이 있으면 해당 이체는 커밋된 것
+ * - 같은 키로 동시에 들어온 요청은 유니크 인덱스에서 먼저 들어온 트랜잭션이 끝날 때까지 대기
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_transfer_idempotency_member_key", columnNames = {"member_id", "idempotency_key"})
+}, indexes = {
+        // 보관 기간이 지난 기록 정리용
+        @Index(name = "idx_transfer_idempotency_created_at", columnList = "created_at")
+})
+public class TransferIdempotencyRecord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "transfer_idempotency_record_id")
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "idempotency_key", nullable = false, length = 100)
+    private String idempotencyKey;
+
+    // 요청 내용 (같은 키를 다른 이체에 재사용했는지 확인용)
+    @Column(nullable = false)
+    private String requestFingerprint;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public static TransferIdempotencyRecord create(Long memberId, String idempotencyKey, String requestFingerprint) {
+        TransferIdempotencyRecord record = new TransferIdempotencyRecord();
+        record.memberId = memberId;
+        record.idempotencyKey = idempotencyKey;
+        record.requestFingerprint = requestFingerprint;
+        record.createdAt = LocalDateTime.now();
+        return record;
+    }
+}
@@ -0,0 +1,14 @@
+package com.http200ok.finbuddy.transfer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 자동이체 출금 계좌 ID 범위 (배치 파티션 분할용)
+ */
+@Getter
+@AllArgsConstructor
+public class AutoTransferAccountRangeDto {
+    private Long minAccountId;
+    private Long maxAccountId;
+}
@@ -0,0 +1,39 @@
+package com.http200ok.finbuddy.transfer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 자동이체 배치 실행 대상 (계좌/회원 정보를 조인해서 한 번에 조회)
+ */
+@Getter
+@AllArgsConstructor
+public class AutoTransferExecutionItem {
+    private Long autoTransferId;
+    private Long memberId;
+    private String memberName;
+    private Long accountId;
+    private String accountNumber;
+    private String targetBankName;
+    private String targetAccountNumber;
+    private Long amount;
+    private Integer transferDay;
+    private Integer retryCount;
+    // 이번 실행 회차의 예정일 (멱등 키 생성용)
+    private LocalDate dueDate;
+
+    // 정기 실행 조회용 (예정일은 실행일 기준으로 Reader에서 지정)
+    public AutoTransferExecutionItem(Long autoTransferId, Long memberId, String memberName, Long accountId,
+                                     String accountNumber, String targetBankName, String targetAccountNumber,
+                                     Long amount, Integer transferDay, Integer retryCount) {
+        this(autoTransferId, memberId, memberName, accountId, accountNumber, targetBankName, targetAccountNumber,
+                amount, transferDay, retryCount, null);
+    }
+
+    public AutoTransferExecutionItem withDueDate(LocalDate dueDate) {
+        return new AutoTransferExecutionItem(autoTransferId, memberId, memberName, accountId, accountNumber,
+                targetBankName, targetAccountNumber, amount, transferDay, retryCount, dueDate);
+    }
+}
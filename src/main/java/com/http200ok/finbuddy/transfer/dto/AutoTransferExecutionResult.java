@@ -0,0 +1,22 @@
+package com.http200ok.finbuddy.transfer.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 자동이체 배치 실행 결과
+ */
+@Getter
+@AllArgsConstructor
+public class AutoTransferExecutionResult {
+    private AutoTransferExecutionItem item;
+    private boolean success;
+
+    public static AutoTransferExecutionResult success(AutoTransferExecutionItem item) {
+        return new AutoTransferExecutionResult(item, true);
+    }
+
+    public static AutoTransferExecutionResult failure(AutoTransferExecutionItem item) {
+        return new AutoTransferExecutionResult(item, false);
+    }
+}
@@ -0,0 +1,16 @@
+package com.http200ok.finbuddy.transfer.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+// 한 출금 계좌에서 여러 계좌로 한 번에 이체 (급여 지급, 정산 등)
+@Getter
+@Setter
+public class BatchTransferRequestDto {
+    private Long fromAccountId;        // 출금 계좌 ID
+    private String password;
+    private String senderName;         // 받는 분 통장에 표시
+    private List<TransferLegDto> legs;
+}
@@ -0,0 +1,13 @@
+package com.http200ok.finbuddy.transfer.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class TransferLegDto {
+    private String toBankName;         // 입금 은행명
+    private String toAccountNumber;    // 입금 계좌번호
+    private Long amount;
+    private String receiverName;       // 내 통장에 표시 (없으면 받는 사람 이름)
+}
@@ -2,10 +2,16 @@ package com.http200ok.finbuddy.transfer.repository;
 
 import com.http200ok.finbuddy.transfer.domain.AutoTransfer;
 import com.http200ok.finbuddy.transfer.domain.AutoTransferStatus;
+import com.http200ok.finbuddy.transfer.dto.AutoTransferExecutionItem;
+import com.http200ok.finbuddy.transfer.dto.AutoTransferAccountRangeDto;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface AutoTransferRepository extends JpaRepository<AutoTransfer, Long> {
@@ -25,4 +31,78 @@ public interface AutoTransferRepository extends JpaRepository<AutoTransfer, Long
 
     @Query("SELECT a FROM AutoTransfer a WHERE a.transferDay > :dayOfMonth AND a.status = 'ACTIVE'")
     List<AutoTransfer> findTransfersAfterDay(@Param("dayOfMonth") int dayOfMonth);
+
+    // 실행 대상 자동이체의 출금 계좌 ID 범위 (배치 파티션 분할용)
+    @Query("""
+        SELECT new com.http200ok.finbuddy.transfer.dto.AutoTransferAccountRangeDto(MIN(a.account.id), MAX(a.account.id))
+        FROM AutoTransfer a
+        WHERE a.transferDay IN :targetDays
+        AND a.status = 'ACTIVE'
+    """)
+    AutoTransferAccountRangeDto findAccountRangeForScheduledExecution(@Param("targetDays") List<Integer> targetDays);
+
+    // 출금 계좌 ID 범위 내 실행 대상 자동이체를 ID 순으로 조회 (키셋 페이징, 계좌/회원 조인으로 N+1 방지)
+    @Query("""
+        SELECT new com.http200ok.finbuddy.transfer.dto.AutoTransferExecutionItem(
+            a.id, m.id, m.name, acc.id, acc.accountNumber,
+            a.targetBankName, a.targetAccountNumber, a.amount, a.transferDay, a.retryCount)
+        FROM AutoTransfer a
+        JOIN a.account acc
+        JOIN acc.member m
+        WHERE a.id > :lastId
+        AND acc.id BETWEEN :minAccountId AND :maxAccountId
+        AND a.transferDay IN :targetDays
+        AND a.status = 'ACTIVE'
+        ORDER BY a.id
+    """)
+    List<AutoTransferExecutionItem> findExecutionItemsAfter(@Param("lastId") Long lastId,
+                                                            @Param("minAccountId") Long minAccountId,
+                                                            @Param("maxAccountId") Long maxAccountId,
+                                                            @Param("targetDays") List<Integer> targetDays,
+                                                            Pageable pageable);
+
+    // 재시도 시각이 도래한 실패 자동이체를 ID 순으로 조회 (키셋 페이징, (status, next_retry_at) 인덱스 사용)
+    @Query("""
+        SELECT new com.http200ok.finbuddy.transfer.dto.AutoTransferExecutionItem(
+            a.id, m.id, m.name, acc.id, acc.accountNumber,
+            a.targetBankName, a.targetAccountNumber, a.amount, a.transferDay, a.retryCount, a.dueDate)
+        FROM AutoTransfer a
+        JOIN a.account acc
+        JOIN acc.member m
+        WHERE a.status = 'FAILED'
+        AND a.nextRetryAt <= :dueAt
+        AND a.id > :lastId
+        ORDER BY a.id
+    """)
+    List<AutoTransferExecutionItem> findRetryItemsAfter(@Param("lastId") Long lastId,
+                                                        @Param("dueAt") LocalDateTime dueAt,
+                                                        Pageable pageable);
+
+    // 자동이체 성공 처리 일괄 반영 (재시도 정보 초기화)
+    @Modifying
+    @Query("""
+        UPDATE AutoTransfer a
+        SET a.status = 'ACTIVE', a.retryCount = 0, a.nextRetryAt = NULL, a.dueDate = NULL, a.updatedAt = :updatedAt
+        WHERE a.id IN :ids
+    """)
+    int markSucceededByIds(@Param("ids") List<Long> ids, @Param("updatedAt") LocalDateTime updatedAt);
+
+    // 자동이체 실패 처리 일괄 반영 (재시도 횟수/다음 재시도 시각/실패한 회차의 예정일 기록)
+    @Modifying
+    @Query("""
+        UPDATE AutoTransfer a
+        SET a.status = 'FAILED', a.retryCount = :retryCount, a.nextRetryAt = :nextRetryAt,
+            a.dueDate = :dueDate, a.updatedAt = :updatedAt
+        WHERE a.id IN :ids
+    """)
+    int markFailedByIds(@Param("ids") List<Long> ids,
+                        @Param("retryCount") int retryCount,
+                        @Param("dueDate") LocalDate dueDate,
+                        @Param("nextRetryAt") LocalDateTime nextRetryAt,
+                        @Param("updatedAt") LocalDateTime updatedAt);
+
+    // 출금 계좌 목록에 등록된 자동이체 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM AutoTransfer a WHERE a.account.id IN :accountIds")
+    int deleteAllByAccountIds(@Param("accountIds") List<Long> accountIds);
 }
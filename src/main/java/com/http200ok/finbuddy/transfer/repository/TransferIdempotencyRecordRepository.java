@@ -0,0 +1,19 @@
+package com.http200ok.finbuddy.transfer.repository;
+
+import com.http200ok.finbuddy.transfer.domain.TransferIdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface TransferIdempotencyRecordRepository extends JpaRepository<TransferIdempotencyRecord, Long> {
+    Optional<TransferIdempotencyRecord> findByMemberIdAndIdempotencyKey(Long memberId, String idempotencyKey);
+
+    // 보관 기간이 지난 기록을 엔티티 로딩 없이 최대 :limit 건씩 삭제 (한 번에 잡는 락/언두 로그 크기 제한)
+    @Modifying
+    @Query(value = "DELETE FROM transfer_idempotency_record WHERE created_at < :cutoff LIMIT :limit", nativeQuery = true)
+    int deleteChunkByCreatedAtBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+}
@@ -0,0 +1,52 @@
+package com.http200ok.finbuddy.transfer.scheduler;
+
+import com.http200ok.finbuddy.transfer.repository.TransferIdempotencyRecordRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 보관 기간이 지난 이체 멱등성 키 기록 삭제
+ * - 보관 기간은 자동이체 재시도 기간(최대 약 31시간)보다 길어야 함
+ *   (자동이체 키는 회차별이므로 재시도가 끝나기 전에 지우면 같은 회차가 다시 이체될 수 있음)
+ */
+@Component
+public class TransferIdempotencyRetentionScheduler {
+
+    private static final int DELETE_CHUNK_SIZE = 1000;
+
+    private final TransferIdempotencyRecordRepository transferIdempotencyRecordRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int retentionDays;
+
+    public TransferIdempotencyRetentionScheduler(TransferIdempotencyRecordRepository transferIdempotencyRecordRepository,
+                                                 PlatformTransactionManager transactionManager,
+                                                 @Value("${transfer.idempotency.retention-days:35}") int retentionDays) {
+        this.transferIdempotencyRecordRepository = transferIdempotencyRecordRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retentionDays = retentionDays;
+    }
+
+    // 매일 새벽 4시, 청크마다 별도 트랜잭션으로 삭제
+    @Scheduled(cron = "0 0 4 * * ?")
+    public void purgeExpiredRecords() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        int total = 0;
+        try {
+            int deleted;
+            do {
+                deleted = Objects.requireNonNullElse(transactionTemplate.execute(status ->
+                        transferIdempotencyRecordRepository.deleteChunkByCreatedAtBefore(cutoff, DELETE_CHUNK_SIZE)), 0);
+                total += deleted;
+            } while (deleted == DELETE_CHUNK_SIZE);
+            System.out.println("이체 멱등성 키 기록 " + total + "건 삭제 (기준: " + cutoff + " 이전)");
+        } catch (Exception e) {
+            System.out.println("이체 멱등성 키 기록 삭제 중 오류 (" + total + "건 삭제됨): " + e.getMessage());
+        }
+    }
+}
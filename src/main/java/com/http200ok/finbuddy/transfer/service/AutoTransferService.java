@@ -1,6 +1,7 @@
 package com.http200ok.finbuddy.transfer.service;
 
 import com.http200ok.finbuddy.transfer.domain.AutoTransfer;
+import com.http200ok.finbuddy.transfer.dto.AutoTransferExecutionResult;
 import com.http200ok.finbuddy.transfer.dto.AutoTransferUpdateRequestDto;
 
 import java.util.List;
@@ -16,5 +17,6 @@ public interface AutoTransferService {
 //    void executeScheduledAutoTransfers();
     void markAsSuccessAndNotify(AutoTransfer transfer);
     void markAsFailedAndSave(AutoTransfer transfer);
+    void applyExecutionResults(List<? extends AutoTransferExecutionResult> results, boolean retryRun);
 
 }
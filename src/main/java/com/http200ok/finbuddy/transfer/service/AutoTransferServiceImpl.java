@@ -3,10 +3,14 @@ package com.http200ok.finbuddy.transfer.service;
 import com.http200ok.finbuddy.account.domain.Account;
 import com.http200ok.finbuddy.account.repository.AccountRepository;
 import com.http200ok.finbuddy.common.validator.AccountValidator;
+import com.http200ok.finbuddy.member.domain.Member;
+import com.http200ok.finbuddy.member.repository.MemberRepository;
 import com.http200ok.finbuddy.notification.domain.NotificationType;
 import com.http200ok.finbuddy.notification.service.NotificationService;
 import com.http200ok.finbuddy.transfer.domain.AutoTransfer;
 import com.http200ok.finbuddy.transfer.domain.AutoTransferStatus;
+import com.http200ok.finbuddy.transfer.dto.AutoTransferExecutionItem;
+import com.http200ok.finbuddy.transfer.dto.AutoTransferExecutionResult;
 import com.http200ok.finbuddy.transfer.dto.AutoTransferUpdateRequestDto;
 import com.http200ok.finbuddy.transfer.repository.AutoTransferRepository;
 import jakarta.persistence.EntityNotFoundException;
@@ -17,7 +21,10 @@ import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -26,6 +33,7 @@ public class AutoTransferServiceImpl implements AutoTransferService {
     private final AutoTransferRepository autoTransferRepository;
     private final AccountValidator accountValidator;
     private final NotificationService notificationService;
+    private final MemberRepository memberRepository;
 
     @Override
     @Transactional
@@ -151,16 +159,61 @@ public class AutoTransferServiceImpl implements AutoTransferService {
         sendSuccessNotification(transfer);
     }
 
+    /**
+     * 배치 실행 결과 일괄 반영 (상태 일괄 변경 후 회원별 알림 발송)
+     * - 실패 건은 재시도 횟수에 따라 다음 재시도 시각을 지수 백오프로 기록
+     */
+    @Override
+    @Transactional
+    public void applyExecutionResults(List<? extends AutoTransferExecutionResult> results, boolean retryRun) {
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Long> succeededIds = results.stream()
+                .filter(AutoTransferExecutionResult::isSuccess)
+                .map(result -> result.getItem().getAutoTransferId())
+                .toList();
+        if (!succeededIds.isEmpty()) {
+            autoTransferRepository.markSucceededByIds(succeededIds, now);
+        }
+
+        // 정기 실행 실패는 재시도 0회, 재시도 실패는 기존 횟수 + 1
+        // 재시도 시 같은 회차의 멱등 키를 쓰도록 예정일도 함께 기록 (같은 횟수/예정일끼리 묶어서 UPDATE)
+        Map<FailureGroup, List<Long>> failedIdsByGroup = results.stream()
+                .filter(result -> !result.isSuccess())
+                .collect(Collectors.groupingBy(
+                        result -> new FailureGroup(
+                                retryRun ? result.getItem().getRetryCount() + 1 : 0,
+                                result.getItem().getDueDate()),
+                        Collectors.mapping(result -> result.getItem().getAutoTransferId(), Collectors.toList())));
+        failedIdsByGroup.forEach((group, ids) -> autoTransferRepository.markFailedByIds(
+                ids, group.retryCount(), group.dueDate(), AutoTransfer.nextRetryTime(group.retryCount(), now), now));
+
+        for (AutoTransferExecutionResult result : results) {
+            AutoTransferExecutionItem item = result.getItem();
+            // 알림 수신자는 ID만 필요하므로 프록시 참조 사용 (회원 조회 쿼리 없음)
+            Member receiver = memberRepository.getReferenceById(item.getMemberId());
+            if (result.isSuccess()) {
+                notificationService.sendNotification(receiver, NotificationType.AUTOTRANSFERSUCCESS,
+                        successMessage(item.getAccountNumber(), item.getTargetBankName(), item.getTargetAccountNumber(),
+                                item.getAmount(), item.getTransferDay()));
+            } else if (shouldNotifyFailure(item, retryRun)) {
+                notificationService.sendNotification(receiver, NotificationType.AUTOTRANSFERFAIL,
+                        failureMessage(item.getAccountNumber(), item.getTargetBankName(), item.getTargetAccountNumber(),
+                                item.getAmount()));
+            }
+        }
+    }
+
+    // 실패 알림은 최초 실패(정기 실행)와 최종 재시도 실패에만 발송 (중간 재시도 실패는 알리지 않음)
+    private boolean shouldNotifyFailure(AutoTransferExecutionItem item, boolean retryRun) {
+        return !retryRun || item.getRetryCount() + 1 >= AutoTransfer.MAX_RETRY_COUNT;
+    }
+
     /**
      * 자동이체 성공 알림
      */
     private void sendSuccessNotification(AutoTransfer transfer) {
-        String message = String.format(
-                "자동이체 성공 안내\n\n" +
-                        "출금 계좌: %s\n" +
-                        "입금 계좌: %s %s\n" +
-                        "이체 금액: %,d원\n" +
-                        "이체일: %d",
+        String message = successMessage(
                 transfer.getAccount().getAccountNumber(),
                 transfer.getTargetBankName(),
                 transfer.getTargetAccountNumber(),
@@ -174,12 +227,7 @@ public class AutoTransferServiceImpl implements AutoTransferService {
      * 자동이체 실패 알림
      */
     private void sendFailureNotification(AutoTransfer transfer) {
-        String message = String.format(
-                "자동이체 실패 안내\n\n" +
-                        "출금 계좌: %s\n" +
-                        "입금 계좌: %s %s\n" +
-                        "이체 금액: %,d원\n" +
-                        "사유: 잔액 부족 또는 기타 오류",
+        String message = failureMessage(
                 transfer.getAccount().getAccountNumber(),
                 transfer.getTargetBankName(),
                 transfer.getTargetAccountNumber(),
@@ -187,4 +235,38 @@ public class AutoTransferServiceImpl implements AutoTransferService {
         );
         notificationService.sendNotification(transfer.getAccount().getMember(), NotificationType.AUTOTRANSFERFAIL, message);
     }
+
+    private String successMessage(String accountNumber, String targetBankName, String targetAccountNumber,
+                                  Long amount, Integer transferDay) {
+        return String.format(
+                "자동이체 성공 안내\n\n" +
+                        "출금 계좌: %s\n" +
+                        "입금 계좌: %s %s\n" +
+                        "이체 금액: %,d원\n" +
+                        "이체일: %d",
+                accountNumber,
+                targetBankName,
+                targetAccountNumber,
+                amount,
+                transferDay
+        );
+    }
+
+    private String failureMessage(String accountNumber, String targetBankName, String targetAccountNumber, Long amount) {
+        return String.format(
+                "자동이체 실패 안내\n\n" +
+                        "출금 계좌: %s\n" +
+                        "입금 계좌: %s %s\n" +
+                        "이체 금액: %,d원\n" +
+                        "사유: 잔액 부족 또는 기타 오류",
+                accountNumber,
+                targetBankName,
+                targetAccountNumber,
+                amount
+        );
+    }
+
+    // 실패 일괄 반영 단위 (재시도 횟수, 실패한 회차의 예정일)
+    private record FailureGroup(int retryCount, LocalDate dueDate) {
+    }
 }
@@ -0,0 +1,8 @@
+package com.http200ok.finbuddy.transfer.service;
+
+public interface TransferIdempotencyService {
+    // 같은 키로 완료된 이체가 있는지 확인 (다른 요청에 사용된 키면 예외)
+    boolean isCompleted(Long memberId, String idempotencyKey, String requestFingerprint);
+    // 현재 이체 트랜잭션에 멱등성 키 기록 (커밋 후 캐시 적재)
+    void record(Long memberId, String idempotencyKey, String requestFingerprint);
+}
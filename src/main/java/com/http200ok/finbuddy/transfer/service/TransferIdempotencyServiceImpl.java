@@ -0,0 +1,59 @@
+package com.http200ok.finbuddy.transfer.service;
+
+import com.http200ok.finbuddy.common.exception.InvalidTransactionException;
+import com.http200ok.finbuddy.transfer.cache.TransferIdempotencyCache;
+import com.http200ok.finbuddy.transfer.domain.TransferIdempotencyRecord;
+import com.http200ok.finbuddy.transfer.repository.TransferIdempotencyRecordRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 이체 멱등성 키 처리
+ * - 캐시 -> DB 순으로 완료 여부 확인 (재요청은 대부분 캐시에서 바로 응답)
+ * - 실패한 이체는 롤백되어 기록이 남지 않으므로 같은 키로 다시 시도 가능
+ */
+@Service
+@RequiredArgsConstructor
+public class TransferIdempotencyServiceImpl implements TransferIdempotencyService {
+
+    private final TransferIdempotencyRecordRepository recordRepository;
+    private final TransferIdempotencyCache idempotencyCache;
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isCompleted(Long memberId, String idempotencyKey, String requestFingerprint) {
+        String completedFingerprint = idempotencyCache.get(memberId, idempotencyKey);
+        if (completedFingerprint == null) {
+            completedFingerprint = recordRepository.findByMemberIdAndIdempotencyKey(memberId, idempotencyKey)
+                    .map(TransferIdempotencyRecord::getRequestFingerprint)
+                    .orElse(null);
+            if (completedFingerprint == null) {
+                return false;
+            }
+            idempotencyCache.put(memberId, idempotencyKey, completedFingerprint);
+        }
+
+        if (!completedFingerprint.equals(requestFingerprint)) {
+            throw new InvalidTransactionException("이미 다른 이체에 사용된 Idempotency-Key입니다");
+        }
+        return true;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Long memberId, String idempotencyKey, String requestFingerprint) {
+        // 계좌 락보다 먼저 INSERT - 같은 키의 동시 요청은 여기서 대기 후 유니크 제약 위반으로 실패
+        recordRepository.saveAndFlush(TransferIdempotencyRecord.create(memberId, idempotencyKey, requestFingerprint));
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                idempotencyCache.put(memberId, idempotencyKey, requestFingerprint);
+            }
+        });
+    }
+}
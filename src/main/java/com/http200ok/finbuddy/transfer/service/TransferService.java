@@ -2,13 +2,15 @@ package com.http200ok.finbuddy.transfer.service;
 
 import com.http200ok.finbuddy.account.dto.CheckingAccountResponseDto;
 import com.http200ok.finbuddy.account.dto.ReceivingAccountResponseDto;
+import com.http200ok.finbuddy.transfer.dto.BatchTransferRequestDto;
 
 import java.util.List;
 
 public interface TransferService {
-    boolean executeAccountTransfer(Long memberId, Long fromAccountId, String toBankName, String toAccountNumber, Long amount, String password, String senderName, String receiverName);
+    boolean executeAccountTransfer(Long memberId, Long fromAccountId, String toBankName, String toAccountNumber, Long amount, String password, String senderName, String receiverName, String idempotencyKey);
+    int executeBatchTransfer(Long memberId, BatchTransferRequestDto request, String idempotencyKey);
     List<CheckingAccountResponseDto> getCheckingAccountList(Long memberId);
     ReceivingAccountResponseDto getReceivingAccount(String bankName, String accountNumber);
 
-    boolean autoExecuteAccountTransfer(Long memberId, Long fromAccountId, String toBankName, String toAccountNumber, Long amount, String senderName, String receiverName);
+    boolean autoExecuteAccountTransfer(Long memberId, Long fromAccountId, String toBankName, String toAccountNumber, Long amount, String senderName, String receiverName, String idempotencyKey);
 }
@@ -4,31 +4,64 @@ import com.http200ok.finbuddy.account.domain.Account;
 import com.http200ok.finbuddy.account.dto.CheckingAccountResponseDto;
 import com.http200ok.finbuddy.account.dto.ReceivingAccountResponseDto;
 import com.http200ok.finbuddy.account.repository.AccountRepository;
+import com.http200ok.finbuddy.account.service.AccountBalanceService;
+import com.http200ok.finbuddy.account.service.AccountBalanceStripeService;
 import com.http200ok.finbuddy.category.domain.Category;
 import com.http200ok.finbuddy.category.repository.CategoryRepository;
 import com.http200ok.finbuddy.common.exception.InsufficientBalanceException;
 import com.http200ok.finbuddy.common.exception.InvalidTransactionException;
+import com.http200ok.finbuddy.common.transaction.DeadlockRetryExecutor;
 import com.http200ok.finbuddy.common.validator.AccountValidator;
+import com.http200ok.finbuddy.common.validator.TransferAccounts;
 import com.http200ok.finbuddy.transaction.domain.Transaction;
+import com.http200ok.finbuddy.transaction.repository.TransactionBulkRepository;
 import com.http200ok.finbuddy.transaction.repository.TransactionRepository;
+import com.http200ok.finbuddy.transaction.service.TransactionRollupService;
+import com.http200ok.finbuddy.transfer.dto.BatchTransferRequestDto;
+import com.http200ok.finbuddy.transfer.dto.TransferLegDto;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class TransferServiceImpl implements TransferService {
 
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 100;
+    // 일괄 이체 한 번에 처리할 최대 건수
+    private static final int MAX_BATCH_LEGS = 500;
+
     private final AccountRepository accountRepository;
     private final TransactionRepository transactionRepository;
+    private final TransactionBulkRepository transactionBulkRepository;
+    private final TransactionRollupService transactionRollupService;
     private final AccountValidator accountValidator;
     private final CategoryRepository categoryRepository;
     private final PasswordEncoder passwordEncoder;
+    private final DeadlockRetryExecutor deadlockRetryExecutor;
+    private final AccountBalanceService accountBalanceService;
+    private final AccountBalanceStripeService accountBalanceStripeService;
+    private final TransferIdempotencyService transferIdempotencyService;
+
+    // false이면 계좌를 SELECT ... FOR UPDATE로 잠근 뒤 잔액을 변경하는 방식 사용
+    @Value("${transfer.conditional-update.enabled:true}")
+    private boolean conditionalUpdateEnabled;
 
     @Override
     @Transactional(readOnly = true)
@@ -37,7 +70,7 @@ public class TransferServiceImpl implements TransferService {
         List<Account> checkingAccounts = accountRepository.findCheckingAccountsByMemberId(memberId);
 
         return checkingAccounts.stream()
-                .map(CheckingAccountResponseDto::from)
+                .map(account -> CheckingAccountResponseDto.from(account, accountBalanceStripeService.getBalance(account)))
                 .collect(Collectors.toList());
     }
 
@@ -57,31 +90,170 @@ public class TransferServiceImpl implements TransferService {
      * @param password 계좌 비밀번호
      * @param senderName 보내는 사람 이름, 받는 분 통장에 표시
      * @param receiverName 받는 사람 이름, 내 통상에 표시
+     * @param idempotencyKey 멱등성 키 (null이면 중복 요청 확인 안 함), 같은 키로 완료된 이체가 있으면 다시 이체하지 않음
      * @return 이체 성공 여부
      */
     @Override
-    @Transactional
     public boolean executeAccountTransfer(Long memberId, Long fromAccountId, String toBankName, String toAccountNumber,
-                                          Long amount, String password, String senderName, String receiverName) {
+                                          Long amount, String password, String senderName, String receiverName,
+                                          String idempotencyKey) {
+        String fingerprint = fromAccountId + "|" + toBankName + "|" + toAccountNumber + "|" + amount;
+        return executeIdempotently(memberId, idempotencyKey, fingerprint, true,
+                () -> transfer(memberId, fromAccountId, toBankName, toAccountNumber,
+                        amount, password, true, senderName, receiverName));
+    }
 
-        // 출금 계좌 조회 및 검증 (비관적 락 사용)
-        Account fromAccount = accountValidator.validateAndGetAccountWithLock(fromAccountId, memberId);
+    /**
+     * 한 출금 계좌에서 여러 계좌로 일괄 이체 (전부 성공 또는 전부 실패)
+     * - 비밀번호 검증 1회, 출금은 전체 금액으로 UPDATE 1회
+     * - 출금/입금 계좌 잔액은 단건 이체와 같은 규칙(계좌 ID 오름차순)으로 변경하여 데드락 방지
+     * - 거래내역은 JDBC 배치 INSERT, 월별 집계는 집계 행마다 UPSERT 1회
+     * @return 처리한 이체 건수
+     */
+    @Override
+    public int executeBatchTransfer(Long memberId, BatchTransferRequestDto request, String idempotencyKey) {
+        List<TransferLegDto> legs = request.getLegs();
+        if (legs == null || legs.isEmpty()) {
+            throw new InvalidTransactionException("이체 목록이 비어 있습니다");
+        }
+        if (legs.size() > MAX_BATCH_LEGS) {
+            throw new InvalidTransactionException("한 번에 최대 " + MAX_BATCH_LEGS + "건까지 이체할 수 있습니다");
+        }
+        for (TransferLegDto leg : legs) {
+            if (leg.getAmount() == null || leg.getAmount() <= 0) {
+                throw new InvalidTransactionException("이체 금액은 0보다 커야 합니다");
+            }
+        }
 
-        // 입금 계좌 검증 및 조회 (비관적 락 사용)
-        Account toAccount = accountValidator.validateAndGetBankAccountWithLock(toBankName, toAccountNumber);
+        // 이체 목록 전체를 요청 내용으로 사용 (길이 제한을 위해 UUID로 축약)
+        String legsText = legs.stream()
+                .map(leg -> leg.getToBankName() + "|" + leg.getToAccountNumber() + "|" + leg.getAmount())
+                .collect(Collectors.joining(","));
+        String fingerprint = "batch|" + request.getFromAccountId() + "|"
+                + UUID.nameUUIDFromBytes(legsText.getBytes(StandardCharsets.UTF_8));
 
-        if (receiverName == null) {
-            receiverName = toAccount.getMember().getName();
+        return executeIdempotently(memberId, idempotencyKey, fingerprint, legs.size(),
+                () -> batchTransfer(memberId, request));
+    }
+
+    /**
+     * 멱등성 키 확인 후 이체 실행
+     * - 키가 없으면 확인 없이 실행, 같은 키로 완료된 이체가 있으면 계좌 조회/락 없이 replayResult 반환
+     * - 데드락/락 대기 시간 초과 시 새 트랜잭션으로 재시도
+     */
+    private <T> T executeIdempotently(Long memberId, String idempotencyKey, String fingerprint,
+                                      T replayResult, Supplier<T> transfer) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return deadlockRetryExecutor.execute(status -> transfer.get());
+        }
+        if (idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new InvalidTransactionException("Idempotency-Key는 " + MAX_IDEMPOTENCY_KEY_LENGTH + "자 이하여야 합니다");
+        }
+
+        if (transferIdempotencyService.isCompleted(memberId, idempotencyKey, fingerprint)) {
+            return replayResult;
         }
 
+        try {
+            return deadlockRetryExecutor.execute(status -> {
+                transferIdempotencyService.record(memberId, idempotencyKey, fingerprint);
+                return transfer.get();
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 같은 키로 동시에 들어온 요청이 먼저 커밋된 경우
+            if (transferIdempotencyService.isCompleted(memberId, idempotencyKey, fingerprint)) {
+                return replayResult;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    @Transactional
+    public boolean autoExecuteAccountTransfer(Long memberId, Long fromAccountId, String toBankName, String toAccountNumber,
+                                          Long amount, String senderName, String receiverName, String idempotencyKey) {
+        // 자동이체 ID + 실행 월 단위 키 - 배치 재시작으로 같은 달에 다시 처리되어도 한 번만 이체
+        if (idempotencyKey != null) {
+            if (transferIdempotencyService.isCompleted(memberId, idempotencyKey, idempotencyKey)) {
+                return true;
+            }
+            transferIdempotencyService.record(memberId, idempotencyKey, idempotencyKey);
+        }
+
+        // 자동이체는 등록 시 비밀번호를 확인하므로 실행 시에는 검증하지 않음
+        return transfer(memberId, fromAccountId, toBankName, toAccountNumber, amount, null, false, senderName, receiverName);
+    }
+
+    private boolean transfer(Long memberId, Long fromAccountId, String toBankName, String toAccountNumber, Long amount,
+                             String password, boolean verifyPassword, String senderName, String receiverName) {
+        if (conditionalUpdateEnabled) {
+            return transferWithConditionalUpdate(memberId, fromAccountId, toBankName, toAccountNumber, amount,
+                    password, verifyPassword, senderName, receiverName);
+        }
+        return transferWithLock(memberId, fromAccountId, toBankName, toAccountNumber, amount,
+                password, verifyPassword, senderName, receiverName);
+    }
+
+    /**
+     * 조건부 UPDATE 이체 (기본)
+     * - 계좌 조회/비밀번호 검증은 락 없이 먼저 처리하고, 잔액 변경은 계좌마다 UPDATE 한 문장으로 처리
+     * - 출금 UPDATE가 잔액 조건(balance >= amount)을 함께 확인하므로 별도 락 없이도 음수 잔액이 되지 않음
+     * - 두 UPDATE도 계좌 ID 오름차순으로 실행하여 교차 이체 데드락 방지
+     */
+    private boolean transferWithConditionalUpdate(Long memberId, Long fromAccountId, String toBankName, String toAccountNumber, Long amount,
+                                                  String password, boolean verifyPassword, String senderName, String receiverName) {
+
+        // 출금/입금 계좌 조회 및 검증 (락 없음)
+        Account fromAccount = accountValidator.validateAndGetAccount(fromAccountId, memberId);
+        Account toAccount = accountValidator.validateAndGetBankAccount(toBankName, toAccountNumber);
+
         // 동일 계좌 검증
-        if (fromAccount.getAccountNumber().equals(toAccountNumber) &&
-                fromAccount.getBank().getName().equals(toBankName)) {
+        if (fromAccount.getId().equals(toAccount.getId())) {
             throw new InvalidTransactionException("출금계좌와 입금계좌가 동일합니다");
         }
 
+        // 비밀번호 검증 (BCrypt 비용이 락 보유 시간에 포함되지 않음)
+        if (verifyPassword && !passwordEncoder.matches(password, fromAccount.getPassword())) {
+            throw new InvalidTransactionException("계좌 비밀번호가 일치하지 않습니다");
+        }
+
+        Category transferCategory = getTransferCategory();
+
+        // 출금/입금 계좌 잔액 업데이트 (잔액 부족 시 InsufficientBalanceException, 트랜잭션 전체 롤백)
+        long fromBalance;
+        long toBalance;
+        if (fromAccount.getId() < toAccount.getId()) {
+            fromBalance = accountBalanceService.debit(fromAccount.getId(), amount);
+            toBalance = accountBalanceService.credit(toAccount.getId(), amount);
+        } else {
+            toBalance = accountBalanceService.credit(toAccount.getId(), amount);
+            fromBalance = accountBalanceService.debit(fromAccount.getId(), amount);
+        }
+
+        recordTransfer(fromAccount, fromBalance, toAccount, toBalance, amount, transferCategory, senderName, receiverName);
+        return true;
+    }
+
+    /**
+     * 비관적 락 이체 (transfer.conditional-update.enabled=false일 때 사용)
+     * - 두 계좌를 ID 순서로 SELECT ... FOR UPDATE 한 뒤 엔티티 잔액을 변경
+     */
+    private boolean transferWithLock(Long memberId, Long fromAccountId, String toBankName, String toAccountNumber, Long amount,
+                                     String password, boolean verifyPassword, String senderName, String receiverName) {
+
+        // 보조 잔액 분산 계좌에서 출금하는 경우 합산 전 입금액을 먼저 계좌 잔액에 합산
+        // (계좌 엔티티를 읽기 전에 실행해야 락 조회 시 합산된 잔액을 읽음)
+        if (accountBalanceStripeService.isStriped(fromAccountId)) {
+            accountBalanceStripeService.compact(fromAccountId);
+        }
+
+        // 출금/입금 계좌 조회 및 검증 (계좌 ID 순서로 비관적 락 사용)
+        TransferAccounts accounts = accountValidator.validateAndGetTransferAccountsWithLock(fromAccountId, memberId, toBankName, toAccountNumber);
+        Account fromAccount = accounts.fromAccount();
+        Account toAccount = accounts.toAccount();
+
         // 비밀번호 검증
-        if (!passwordEncoder.matches(password, fromAccount.getPassword())) {
+        if (verifyPassword && !passwordEncoder.matches(password, fromAccount.getPassword())) {
             throw new InvalidTransactionException("계좌 비밀번호가 일치하지 않습니다");
         }
 
@@ -90,75 +262,100 @@ public class TransferServiceImpl implements TransferService {
             throw new InsufficientBalanceException("잔액이 부족합니다");
         }
 
-        // 거래 카테고리 조회 (이체 카테고리 - 실제 코드에서는 상수로 관리하거나 DB에서 조회)
-        Category transferCategory = categoryRepository.findById(7L) // 기타로 우선 저장
-                .orElseThrow(() -> new EntityNotFoundException("거래 카테고리를 찾을 수 없습니다"));
+        Category transferCategory = getTransferCategory();
 
         // 출금/입금 계좌 잔액 업데이트
         fromAccount.setBalance(fromAccount.getBalance() - amount);
         toAccount.setBalance(toAccount.getBalance() + amount);
 
-        // 출금(2)/입금(1) 거래내역 생성
-        Transaction withdrawalTransaction = Transaction.createTransaction(fromAccount, receiverName, amount, 2, transferCategory);
-        Transaction depositTransaction = Transaction.createTransaction(toAccount, senderName, amount, 1, transferCategory);
-
-        // 거래내역 저장
-        transactionRepository.save(withdrawalTransaction);
-        transactionRepository.save(depositTransaction);
-
-        // 계좌 정보 업데이트
-        accountRepository.save(fromAccount);
-        accountRepository.save(toAccount);
-
+        recordTransfer(fromAccount, fromAccount.getBalance(), toAccount, toAccount.getBalance(), amount, transferCategory, senderName, receiverName);
         return true;
     }
 
-    @Override
-    @Transactional
-    public boolean autoExecuteAccountTransfer(Long memberId, Long fromAccountId, String toBankName, String toAccountNumber,
-                                          Long amount, String senderName, String receiverName) {
-
-        // 출금 계좌 조회 및 검증 (비관적 락 사용)
-        Account fromAccount = accountValidator.validateAndGetAccountWithLock(fromAccountId, memberId);
-
-        // 입금 계좌 검증 및 조회 (비관적 락 사용)
-        Account toAccount = accountValidator.validateAndGetBankAccountWithLock(toBankName, toAccountNumber);
+    private int batchTransfer(Long memberId, BatchTransferRequestDto request) {
+        Long fromAccountId = request.getFromAccountId();
+        List<TransferLegDto> legs = request.getLegs();
 
-        if (receiverName == null) {
-            receiverName = toAccount.getMember().getName();
+        // 출금 계좌 조회/비밀번호 검증 (락 없음, BCrypt 1회)
+        Account fromAccount = accountValidator.validateAndGetAccount(fromAccountId, memberId);
+        if (!passwordEncoder.matches(request.getPassword(), fromAccount.getPassword())) {
+            throw new InvalidTransactionException("계좌 비밀번호가 일치하지 않습니다");
         }
 
-        // 동일 계좌 검증
-        if (fromAccount.getAccountNumber().equals(toAccountNumber) &&
-                fromAccount.getBank().getName().equals(toBankName)) {
-            throw new InvalidTransactionException("출금계좌와 입금계좌가 동일합니다");
+        // 입금 계좌 일괄 조회 (계좌번호는 전체 유일)
+        Set<String> accountNumbers = legs.stream().map(TransferLegDto::getToAccountNumber).collect(Collectors.toSet());
+        Map<String, Account> toAccountsByNumber = accountRepository.findAllWithBankAndMemberByAccountNumberIn(accountNumbers).stream()
+                .collect(Collectors.toMap(Account::getAccountNumber, Function.identity()));
+
+        List<Account> toAccounts = new ArrayList<>(legs.size());
+        Map<Long, Long> creditTotals = new HashMap<>();
+        long totalAmount = 0;
+        for (TransferLegDto leg : legs) {
+            Account toAccount = toAccountsByNumber.get(leg.getToAccountNumber());
+            if (toAccount == null || !toAccount.getBank().getName().equals(leg.getToBankName())) {
+                throw new EntityNotFoundException("계좌를 찾을 수 없거나 은행명과 계좌번호가 일치하지 않습니다: " + leg.getToAccountNumber());
+            }
+            if (toAccount.getId().equals(fromAccountId)) {
+                throw new InvalidTransactionException("출금계좌와 입금계좌가 동일합니다");
+            }
+            toAccounts.add(toAccount);
+            creditTotals.merge(toAccount.getId(), leg.getAmount(), Long::sum);
+            totalAmount = Math.addExact(totalAmount, leg.getAmount());
         }
 
-        // 잔액 확인
-        if (fromAccount.getBalance() < amount) {
-            throw new InsufficientBalanceException("잔액이 부족합니다");
+        // 출금(전체 금액 1회)/입금(계좌별 합계 1회)을 계좌 ID 오름차순으로 UPDATE
+        TreeMap<Long, Long> balanceChanges = new TreeMap<>(creditTotals);
+        balanceChanges.put(fromAccountId, -totalAmount);
+        Map<Long, Long> finalBalances = new HashMap<>();
+        balanceChanges.forEach((accountId, change) -> finalBalances.put(accountId, change < 0
+                ? accountBalanceService.debit(accountId, -change)
+                : accountBalanceService.credit(accountId, change)));
+
+        // 이체 건별 거래 후 잔액 (최종 잔액에서 역산)
+        Category transferCategory = getTransferCategory();
+        long fromBalance = finalBalances.get(fromAccountId) + totalAmount;
+        Map<Long, Long> toBalances = new HashMap<>();
+        creditTotals.forEach((accountId, credit) -> toBalances.put(accountId, finalBalances.get(accountId) - credit));
+
+        List<Transaction> ledger = new ArrayList<>(legs.size() * 2);
+        for (int i = 0; i < legs.size(); i++) {
+            TransferLegDto leg = legs.get(i);
+            Account toAccount = toAccounts.get(i);
+            String receiverName = leg.getReceiverName() != null ? leg.getReceiverName() : toAccount.getMember().getName();
+
+            fromBalance -= leg.getAmount();
+            long toBalance = toBalances.merge(toAccount.getId(), leg.getAmount(), Long::sum);
+
+            ledger.add(Transaction.createLedgerEntry(fromAccount, receiverName, leg.getAmount(), 2, transferCategory, fromBalance));
+            ledger.add(Transaction.createLedgerEntry(toAccount, request.getSenderName(), leg.getAmount(), 1, transferCategory, toBalance));
         }
 
+        transactionBulkRepository.saveAll(ledger);
+        transactionRollupService.applyTransactions(ledger);
+
+        return legs.size();
+    }
+
+    private Category getTransferCategory() {
         // 거래 카테고리 조회 (이체 카테고리 - 실제 코드에서는 상수로 관리하거나 DB에서 조회)
-        Category transferCategory = categoryRepository.findById(7L) // 기타로 우선 저장
+        return categoryRepository.findById(7L) // 기타로 우선 저장
                 .orElseThrow(() -> new EntityNotFoundException("거래 카테고리를 찾을 수 없습니다"));
+    }
 
-        // 출금/입금 계좌 잔액 업데이트
-        fromAccount.setBalance(fromAccount.getBalance() - amount);
-        toAccount.setBalance(toAccount.getBalance() + amount);
+    // 출금(2)/입금(1) 거래내역 저장 및 월별 거래 집계 반영
+    private void recordTransfer(Account fromAccount, long fromBalance, Account toAccount, long toBalance, Long amount,
+                                Category transferCategory, String senderName, String receiverName) {
+        if (receiverName == null) {
+            receiverName = toAccount.getMember().getName();
+        }
 
-        // 출금(2)/입금(1) 거래내역 생성
-        Transaction withdrawalTransaction = Transaction.createTransaction(fromAccount, receiverName, amount, 2, transferCategory);
-        Transaction depositTransaction = Transaction.createTransaction(toAccount, senderName, amount, 1, transferCategory);
+        Transaction withdrawalTransaction = Transaction.createLedgerEntry(fromAccount, receiverName, amount, 2, transferCategory, fromBalance);
+        Transaction depositTransaction = Transaction.createLedgerEntry(toAccount, senderName, amount, 1, transferCategory, toBalance);
 
-        // 거래내역 저장
         transactionRepository.save(withdrawalTransaction);
         transactionRepository.save(depositTransaction);
 
-        // 계좌 정보 업데이트
-        accountRepository.save(fromAccount);
-        accountRepository.save(toAccount);
-
-        return true;
+        transactionRollupService.applyTransaction(withdrawalTransaction);
+        transactionRollupService.applyTransaction(depositTransaction);
     }
 }
@@ -0,0 +1,67 @@
+package com.http200ok.finbuddy.account.service;
+
+import com.http200ok.finbuddy.account.repository.AccountRepository;
+import com.http200ok.finbuddy.common.exception.InsufficientBalanceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AccountBalanceServiceImplTest {
+
+    private static final Long STRIPED_ACCOUNT_ID = 1L;
+    private static final Long PLAIN_ACCOUNT_ID = 2L;
+
+    private AccountRepository accountRepository;
+    private AccountBalanceStripeService accountBalanceStripeService;
+    private AccountBalanceServiceImpl accountBalanceService;
+
+    @BeforeEach
+    void setUp() {
+        accountRepository = mock(AccountRepository.class);
+        accountBalanceStripeService = mock(AccountBalanceStripeService.class);
+        when(accountBalanceStripeService.isStriped(STRIPED_ACCOUNT_ID)).thenReturn(true);
+        accountBalanceService = new AccountBalanceServiceImpl(accountRepository, accountBalanceStripeService);
+    }
+
+    @Test
+    void debit_stripedAccount_compactsPendingCreditsBeforeDebit() {
+        when(accountRepository.debitIfSufficient(STRIPED_ACCOUNT_ID, 5000L)).thenReturn(1);
+        when(accountRepository.findBalanceById(STRIPED_ACCOUNT_ID)).thenReturn(3000L);
+
+        long balance = accountBalanceService.debit(STRIPED_ACCOUNT_ID, 5000L);
+
+        assertThat(balance).isEqualTo(3000L);
+        // 보조 잔액 합산 후 조건부 출금 (합산 전 입금액도 출금 가능)
+        InOrder inOrder = inOrder(accountBalanceStripeService, accountRepository);
+        inOrder.verify(accountBalanceStripeService).compact(STRIPED_ACCOUNT_ID);
+        inOrder.verify(accountRepository).debitIfSufficient(STRIPED_ACCOUNT_ID, 5000L);
+    }
+
+    @Test
+    void debit_plainAccount_doesNotTouchStripes() {
+        when(accountRepository.debitIfSufficient(PLAIN_ACCOUNT_ID, 5000L)).thenReturn(1);
+        when(accountRepository.findBalanceById(PLAIN_ACCOUNT_ID)).thenReturn(0L);
+
+        accountBalanceService.debit(PLAIN_ACCOUNT_ID, 5000L);
+
+        verify(accountBalanceStripeService, never()).compact(anyLong());
+    }
+
+    @Test
+    void debit_insufficientAfterCompaction_throws() {
+        when(accountRepository.debitIfSufficient(STRIPED_ACCOUNT_ID, 5000L)).thenReturn(0);
+        when(accountRepository.existsById(STRIPED_ACCOUNT_ID)).thenReturn(true);
+
+        assertThatThrownBy(() -> accountBalanceService.debit(STRIPED_ACCOUNT_ID, 5000L))
+                .isInstanceOf(InsufficientBalanceException.class);
+    }
+}
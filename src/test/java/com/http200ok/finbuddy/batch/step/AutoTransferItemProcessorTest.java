@@ -0,0 +1,61 @@
+package com.http200ok.finbuddy.batch.step;
+
+import com.http200ok.finbuddy.common.transaction.DeadlockRetryExecutor;
+import com.http200ok.finbuddy.transfer.dto.AutoTransferExecutionItem;
+import com.http200ok.finbuddy.transfer.service.TransferService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionCallback;
+
+import java.time.LocalDate;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AutoTransferItemProcessorTest {
+
+    private TransferService transferService;
+    private AutoTransferItemProcessor processor;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        transferService = mock(TransferService.class);
+        DeadlockRetryExecutor deadlockRetryExecutor = mock(DeadlockRetryExecutor.class);
+        when(deadlockRetryExecutor.execute(any())).thenAnswer(invocation ->
+                invocation.getArgument(0, TransactionCallback.class).doInTransaction(null));
+        processor = new AutoTransferItemProcessor(transferService, deadlockRetryExecutor);
+    }
+
+    @Test
+    void process_usesDueMonthForIdempotencyKey() {
+        // 6/1(월)에 실행된 5/31(일) 예정분은 5월 회차의 키 사용
+        processor.process(item(7L, LocalDate.of(2026, 5, 31)));
+
+        verifyIdempotencyKey("auto-transfer:7:2026-05");
+    }
+
+    @Test
+    void process_withoutDueDate_runsWithoutIdempotencyKey() {
+        processor.process(item(7L, null));
+
+        verify(transferService).autoExecuteAccountTransfer(
+                anyLong(), anyLong(), anyString(), anyString(), anyLong(), anyString(), isNull(), isNull());
+    }
+
+    private void verifyIdempotencyKey(String idempotencyKey) {
+        verify(transferService).autoExecuteAccountTransfer(
+                anyLong(), anyLong(), anyString(), anyString(), anyLong(), anyString(), isNull(), eq(idempotencyKey));
+    }
+
+    private AutoTransferExecutionItem item(Long autoTransferId, LocalDate dueDate) {
+        return new AutoTransferExecutionItem(autoTransferId, 1L, "홍길동", 10L, "110-123-456789",
+                "국민은행", "123-45-678901", 10000L, 31, 0, dueDate);
+    }
+}
@@ -0,0 +1,135 @@
+package com.http200ok.finbuddy.batch.step;
+
+import com.http200ok.finbuddy.transfer.dto.AutoTransferAccountRangeDto;
+import com.http200ok.finbuddy.transfer.repository.AutoTransferRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class AutoTransferPartitionerTest {
+
+    private AutoTransferRepository autoTransferRepository;
+
+    @BeforeEach
+    void setUp() {
+        autoTransferRepository = mock(AutoTransferRepository.class);
+        when(autoTransferRepository.findAccountRangeForScheduledExecution(anyList()))
+                .thenReturn(new AutoTransferAccountRangeDto(1L, 10L));
+    }
+
+    @Test
+    void partition_onWeekend_createsNoPartitions() {
+        // 2026-03-07 토요일
+        Map<String, ExecutionContext> partitions = partition(LocalDate.of(2026, 3, 7), 4);
+
+        assertThat(partitions).isEmpty();
+        verifyNoInteractions(autoTransferRepository);
+    }
+
+    @Test
+    void partition_onWeekday_targetsOnlyToday() {
+        // 2026-03-10 화요일
+        Map<String, ExecutionContext> partitions = partition(LocalDate.of(2026, 3, 10), 4);
+
+        assertThat(targetDaysOf(partitions)).containsExactly(10);
+    }
+
+    @Test
+    void partition_onMonday_includesPreviousWeekend() {
+        // 2026-03-09 월요일 -> 7(토), 8(일), 9(월)
+        Map<String, ExecutionContext> partitions = partition(LocalDate.of(2026, 3, 9), 4);
+
+        assertThat(targetDaysOf(partitions)).containsExactly(7, 8, 9);
+    }
+
+    @Test
+    void partition_onMondayFirst_includesWeekendOfPreviousMonth() {
+        // 2026-06-01 월요일 -> 5/30(토), 5/31(일), 6/1(월)
+        Map<String, ExecutionContext> partitions = partition(LocalDate.of(2026, 6, 1), 4);
+
+        assertThat(targetDaysOf(partitions)).containsExactly(30, 31, 1);
+        // 주말분은 실행일(6월)이 아닌 원래 예정일(5월) 기준
+        assertThat(dueDatesOf(partitions))
+                .containsEntry(30, LocalDate.of(2026, 5, 30))
+                .containsEntry(31, LocalDate.of(2026, 5, 31))
+                .containsEntry(1, LocalDate.of(2026, 6, 1));
+    }
+
+    @Test
+    void partition_onMondayAfterMonthEndWeekend_includesDaysBeyondPreviousMonthLength() {
+        // 2027-03-01 월요일 -> 2/27(토), 2/28(일) + 2월에 없는 29~31일, 3/1(월)
+        Map<String, ExecutionContext> partitions = partition(LocalDate.of(2027, 3, 1), 4);
+
+        assertThat(targetDaysOf(partitions)).containsExactly(27, 28, 29, 30, 31, 1);
+        assertThat(dueDatesOf(partitions))
+                .containsEntry(29, LocalDate.of(2027, 2, 28))
+                .containsEntry(31, LocalDate.of(2027, 2, 28))
+                .containsEntry(1, LocalDate.of(2027, 3, 1));
+    }
+
+    @Test
+    void partition_onMonthEnd_includesDaysBeyondMonthLength() {
+        // 2026-04-30 목요일 (4월은 30일까지) -> 31일 자동이체도 함께 실행
+        Map<String, ExecutionContext> partitions = partition(LocalDate.of(2026, 4, 30), 4);
+
+        assertThat(targetDaysOf(partitions)).containsExactly(30, 31);
+        assertThat(dueDatesOf(partitions)).containsEntry(31, LocalDate.of(2026, 4, 30));
+    }
+
+    @Test
+    void partition_onMonthEndMonday_includesWeekendAndToday() {
+        // 2026-08-31 월요일 (8월은 31일까지) -> 29(토), 30(일), 31(월)
+        Map<String, ExecutionContext> partitions = partition(LocalDate.of(2026, 8, 31), 4);
+
+        assertThat(targetDaysOf(partitions)).containsExactly(29, 30, 31);
+    }
+
+    @Test
+    void partition_splitsAccountIdRangeByGridSize() {
+        Map<String, ExecutionContext> partitions = partition(LocalDate.of(2026, 3, 10), 4);
+
+        assertThat(partitions).hasSize(4);
+        assertAccountRange(partitions.get("partition0"), 1, 3);
+        assertAccountRange(partitions.get("partition1"), 4, 6);
+        assertAccountRange(partitions.get("partition2"), 7, 9);
+        assertAccountRange(partitions.get("partition3"), 10, 10);
+    }
+
+    @Test
+    void partition_withoutTargets_createsNoPartitions() {
+        when(autoTransferRepository.findAccountRangeForScheduledExecution(anyList()))
+                .thenReturn(new AutoTransferAccountRangeDto(null, null));
+
+        assertThat(partition(LocalDate.of(2026, 3, 10), 4)).isEmpty();
+    }
+
+    private Map<String, ExecutionContext> partition(LocalDate executionDate, int gridSize) {
+        return new AutoTransferPartitioner(autoTransferRepository, executionDate).partition(gridSize);
+    }
+
+    private List<Integer> targetDaysOf(Map<String, ExecutionContext> partitions) {
+        return new ArrayList<>(dueDatesOf(partitions).keySet());
+    }
+
+    private Map<Integer, LocalDate> dueDatesOf(Map<String, ExecutionContext> partitions) {
+        assertThat(partitions).isNotEmpty();
+        return AutoTransferPartitioner.parseDueDates(
+                partitions.get("partition0").getString(AutoTransferPartitioner.DUE_DATES_KEY));
+    }
+
+    private void assertAccountRange(ExecutionContext context, long minAccountId, long maxAccountId) {
+        assertThat(context.getLong(AutoTransferPartitioner.MIN_ACCOUNT_ID_KEY)).isEqualTo(minAccountId);
+        assertThat(context.getLong(AutoTransferPartitioner.MAX_ACCOUNT_ID_KEY)).isEqualTo(maxAccountId);
+    }
+}
@@ -0,0 +1,36 @@
+package com.http200ok.finbuddy.common.dto;
+
+import com.http200ok.finbuddy.common.exception.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DateTimeCursorTest {
+
+    @Test
+    void encodeAndDecode_roundTrip() {
+        DateTimeCursor cursor = new DateTimeCursor(LocalDateTime.of(2026, 3, 10, 10, 25, 40, 123456000), 42L);
+
+        String encoded = cursor.encode();
+
+        assertThat(encoded).doesNotContain("=", "+", "/");
+        assertThat(DateTimeCursor.decode(encoded)).isEqualTo(cursor);
+    }
+
+    @Test
+    void encodeAndDecode_roundTripWithoutSeconds() {
+        // LocalDateTime.toString()은 초가 0이면 초를 생략하므로 파싱 가능한지 확인
+        DateTimeCursor cursor = new DateTimeCursor(LocalDateTime.of(2026, 3, 10, 10, 25), 1L);
+
+        assertThat(DateTimeCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void decode_invalidCursor() {
+        assertThatThrownBy(() -> DateTimeCursor.decode("not-a-cursor"))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+}
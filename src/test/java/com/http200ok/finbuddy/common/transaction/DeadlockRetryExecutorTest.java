@@ -0,0 +1,94 @@
+package com.http200ok.finbuddy.common.transaction;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DeadlockRetryExecutorTest {
+
+    private PlatformTransactionManager transactionManager;
+    private JdbcTemplate jdbcTemplate;
+    private DeadlockRetryExecutor deadlockRetryExecutor;
+
+    @BeforeEach
+    void setUp() {
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        jdbcTemplate = mock(JdbcTemplate.class);
+        deadlockRetryExecutor = new DeadlockRetryExecutor(transactionManager, jdbcTemplate);
+    }
+
+    @Test
+    void execute_retriesInNewTransactionAfterLockFailure() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = deadlockRetryExecutor.execute(status -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new CannotAcquireLockException("Lock wait timeout exceeded");
+            }
+            return "ok";
+        });
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(attempts).hasValue(3);
+        // 실패한 시도는 롤백, 마지막 시도만 커밋
+        verify(transactionManager, times(3)).getTransaction(any());
+        verify(transactionManager, times(2)).rollback(any());
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    void execute_givesUpAfterMaxAttempts() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> deadlockRetryExecutor.execute(status -> {
+            attempts.incrementAndGet();
+            throw new CannotAcquireLockException("Deadlock found when trying to get lock");
+        })).isInstanceOf(PessimisticLockingFailureException.class);
+
+        assertThat(attempts).hasValue(3);
+        verify(transactionManager, times(3)).rollback(any());
+    }
+
+    @Test
+    void execute_doesNotRetryOtherExceptions() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> deadlockRetryExecutor.execute(status -> {
+            attempts.incrementAndGet();
+            throw new IllegalArgumentException("잔액 부족");
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    void execute_appliesLockWaitTimeoutOnlyDuringTransaction() {
+        assertThatThrownBy(() -> deadlockRetryExecutor.execute(status -> {
+            throw new IllegalArgumentException("잔액 부족");
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        // 실패해도 커넥션 반환 전에 세션 값을 서버 기본값으로 복원
+        InOrder inOrder = inOrder(jdbcTemplate, transactionManager);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(jdbcTemplate).execute("SET SESSION innodb_lock_wait_timeout = 5");
+        inOrder.verify(jdbcTemplate).execute("SET SESSION innodb_lock_wait_timeout = DEFAULT");
+        inOrder.verify(transactionManager).rollback(any());
+    }
+}
@@ -0,0 +1,52 @@
+package com.http200ok.finbuddy.mydata.service;
+
+import com.http200ok.finbuddy.mydata.domain.MyDataGenerationJobState;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class MyDataGenerationJobServiceImplTest {
+
+    private MyDataGenerationJobServiceImpl jobService;
+
+    @BeforeEach
+    void setUp() {
+        jobService = new MyDataGenerationJobServiceImpl(mock(MyDataService.class), mock(PlatformTransactionManager.class));
+        jobService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobService.shutdown();
+    }
+
+    @Test
+    void getJobStatus_bySubmitter_returnsStatus() {
+        // 대상 회원이 없는 작업은 접수 즉시 완료
+        String jobId = jobService.submitGeneration(1L, List.of());
+
+        assertThat(jobService.getJobStatus(jobId, 1L).getState()).isEqualTo(MyDataGenerationJobState.COMPLETED);
+    }
+
+    @Test
+    void getJobStatus_byOtherMember_isNotFound() {
+        String jobId = jobService.submitGeneration(1L, List.of());
+
+        assertThatThrownBy(() -> jobService.getJobStatus(jobId, 2L))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    void getJobStatus_unknownJob_isNotFound() {
+        assertThatThrownBy(() -> jobService.getJobStatus("unknown", 1L))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+}
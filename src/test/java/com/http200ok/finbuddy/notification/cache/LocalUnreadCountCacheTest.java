@@ -0,0 +1,60 @@
+package com.http200ok.finbuddy.notification.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalUnreadCountCacheTest {
+
+    private LocalUnreadCountCache unreadCountCache;
+
+    @BeforeEach
+    void setUp() {
+        unreadCountCache = new LocalUnreadCountCache();
+    }
+
+    @Test
+    void incrementAndDecrement_ignoreMembersNotCached() {
+        // 캐시에 없는 회원의 증감이 잘못된 값(1, 0)으로 항목을 만들면 안 됨
+        unreadCountCache.increment(1L);
+        unreadCountCache.decrement(2L);
+
+        assertThat(unreadCountCache.get(1L)).isNull();
+        assertThat(unreadCountCache.get(2L)).isNull();
+        assertThat(unreadCountCache.cachedMemberIds()).isEmpty();
+    }
+
+    @Test
+    void incrementAndDecrement_updateCachedMember() {
+        unreadCountCache.put(1L, 3);
+
+        unreadCountCache.increment(1L);
+        unreadCountCache.increment(1L);
+        unreadCountCache.decrement(1L);
+
+        assertThat(unreadCountCache.get(1L)).isEqualTo(4L);
+        assertThat(unreadCountCache.cachedMemberIds()).containsExactly(1L);
+    }
+
+    @Test
+    void decrement_doesNotGoBelowZero() {
+        unreadCountCache.put(1L, 1);
+
+        unreadCountCache.decrement(1L);
+        unreadCountCache.decrement(1L);
+
+        assertThat(unreadCountCache.get(1L)).isZero();
+    }
+
+    @Test
+    void replaceIfPresent_overwritesOnlyCachedMember() {
+        unreadCountCache.put(1L, 5);
+
+        unreadCountCache.replaceIfPresent(1L, 2);
+        unreadCountCache.replaceIfPresent(2L, 7);
+
+        assertThat(unreadCountCache.get(1L)).isEqualTo(2L);
+        assertThat(unreadCountCache.get(2L)).isNull();
+    }
+}
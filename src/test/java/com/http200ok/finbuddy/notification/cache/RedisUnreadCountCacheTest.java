@@ -0,0 +1,71 @@
+package com.http200ok.finbuddy.notification.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RedisUnreadCountCacheTest {
+
+    private static final String MEMBER_IDS_KEY = "notification:unread-members";
+
+    private StringRedisTemplate redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private SetOperations<String, String> setOperations;
+    private RedisUnreadCountCache unreadCountCache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        setOperations = mock(SetOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        unreadCountCache = new RedisUnreadCountCache(redisTemplate);
+    }
+
+    @Test
+    void put_recordsMemberIdForReconciliation() {
+        unreadCountCache.put(1L, 3);
+
+        verify(valueOperations).set(eq("notification:unread:1"), eq("3"), any(Duration.class));
+        verify(setOperations).add(MEMBER_IDS_KEY, "1");
+    }
+
+    @Test
+    void cachedMemberIds_returnsMembersWithLiveCountsAndDropsExpired() {
+        when(setOperations.members(MEMBER_IDS_KEY)).thenReturn(new LinkedHashSet<>(List.of("1", "2", "3")));
+        when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList("4", null, "0"));
+
+        Set<Long> cached = unreadCountCache.cachedMemberIds();
+
+        assertThat(cached).containsExactlyInAnyOrder(1L, 3L);
+        verify(valueOperations).multiGet(List.of("notification:unread:1", "notification:unread:2", "notification:unread:3"));
+        verify(setOperations).remove(MEMBER_IDS_KEY, "2");
+    }
+
+    @Test
+    void cachedMemberIds_withoutTrackedMembers_skipsCountLookup() {
+        when(setOperations.members(MEMBER_IDS_KEY)).thenReturn(Set.of());
+
+        assertThat(unreadCountCache.cachedMemberIds()).isEmpty();
+        verify(valueOperations, never()).multiGet(anyList());
+    }
+}
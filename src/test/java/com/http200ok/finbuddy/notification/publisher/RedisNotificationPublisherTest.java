@@ -0,0 +1,123 @@
+package com.http200ok.finbuddy.notification.publisher;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.http200ok.finbuddy.notification.dto.NotificationResponseDto;
+import com.http200ok.finbuddy.notification.repository.CachedEvent;
+import com.http200ok.finbuddy.notification.repository.EmitterRepositoryImpl;
+import com.http200ok.finbuddy.notification.service.NotificationDispatcher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Redis 채널을 메모리 구현으로 대신하여 두 노드 간 알림 전파 확인
+ */
+class RedisNotificationPublisherTest {
+
+    private static final String EVENT_ID_KEY = "notification:event-id";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final AtomicLong eventIdCounter = new AtomicLong();
+    private final List<RedisNotificationPublisher> subscribers = new CopyOnWriteArrayList<>();
+
+    private StringRedisTemplate redisTemplate;
+
+    private EmitterRepositoryImpl nodeAEmitterRepository;
+    private NotificationDispatcher nodeADispatcher;
+    private RedisNotificationPublisher nodeA;
+
+    private EmitterRepositoryImpl nodeBEmitterRepository;
+    private NotificationDispatcher nodeBDispatcher;
+    private RedisNotificationPublisher nodeB;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq(EVENT_ID_KEY), anyString())).thenReturn(true);
+        when(valueOperations.increment(EVENT_ID_KEY)).thenAnswer(invocation -> eventIdCounter.incrementAndGet());
+
+        // 채널 발행 시 구독 중인 모든 노드로 전달
+        doAnswer(invocation -> {
+            byte[] channel = invocation.getArgument(0, String.class).getBytes(StandardCharsets.UTF_8);
+            byte[] body = invocation.getArgument(1, String.class).getBytes(StandardCharsets.UTF_8);
+            subscribers.forEach(subscriber -> subscriber.onMessage(new DefaultMessage(channel, body), null));
+            return 1L;
+        }).when(redisTemplate).convertAndSend(eq(RedisNotificationPublisher.CHANNEL), anyString());
+
+        nodeAEmitterRepository = new EmitterRepositoryImpl();
+        nodeADispatcher = mock(NotificationDispatcher.class);
+        nodeA = startNode(nodeAEmitterRepository, nodeADispatcher);
+
+        nodeBEmitterRepository = new EmitterRepositoryImpl();
+        nodeBDispatcher = mock(NotificationDispatcher.class);
+        nodeB = startNode(nodeBEmitterRepository, nodeBDispatcher);
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.stop();
+        nodeB.stop();
+    }
+
+    @Test
+    void publish_onOneNode_isDispatchedOnEveryNodeWithSameEventId() {
+        NotificationResponseDto notification = NotificationResponseDto.builder()
+                .notificationId(10L)
+                .content("입금 알림")
+                .createdAt(LocalDateTime.of(2025, 1, 1, 9, 0))
+                .build();
+
+        nodeA.publish(1L, notification);
+
+        verify(nodeADispatcher, timeout(2000)).dispatch(eq(1L), eq("1"), any(NotificationResponseDto.class));
+        verify(nodeBDispatcher, timeout(2000)).dispatch(eq(1L), eq("1"), any(NotificationResponseDto.class));
+
+        // 다른 노드로 재연결해도 Last-Event-ID 재전송이 가능하도록 양쪽 캐시에 같은 ID로 저장
+        assertThat(nodeBEmitterRepository.findEventCacheAfter(1L, 0L))
+                .extracting(CachedEvent::eventId)
+                .containsExactly(1L);
+        assertThat(nodeAEmitterRepository.findEventCacheAfter(1L, 0L))
+                .extracting(CachedEvent::eventId)
+                .containsExactly(1L);
+    }
+
+    @Test
+    void onMessage_withMalformedPayload_isIgnored() {
+        byte[] channel = RedisNotificationPublisher.CHANNEL.getBytes(StandardCharsets.UTF_8);
+
+        nodeB.onMessage(new DefaultMessage(channel, "not-json".getBytes(StandardCharsets.UTF_8)), null);
+
+        verify(nodeBDispatcher, never()).dispatch(any(), any(), any());
+        assertThat(nodeBEmitterRepository.findEventCacheAfter(1L, 0L)).isEmpty();
+    }
+
+    private RedisNotificationPublisher startNode(EmitterRepositoryImpl emitterRepository, NotificationDispatcher dispatcher) {
+        RedisNotificationPublisher node = new RedisNotificationPublisher(redisTemplate, objectMapper, emitterRepository, dispatcher);
+        node.start();
+        subscribers.add(node);
+        return node;
+    }
+}
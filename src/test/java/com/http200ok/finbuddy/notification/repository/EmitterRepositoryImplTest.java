@@ -0,0 +1,166 @@
+package com.http200ok.finbuddy.notification.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmitterRepositoryImplTest {
+
+    private EmitterRepositoryImpl emitterRepository;
+
+    @BeforeEach
+    void setUp() {
+        emitterRepository = new EmitterRepositoryImpl();
+    }
+
+    @Test
+    void findAllEmitterByMemberId_doesNotMatchMembersSharingIdPrefix() {
+        // 이전 startsWith(memberId) 구현에서는 회원 1 조회 시 회원 10, 11의 emitter까지 포함됨
+        SseEmitter member1 = emitterRepository.save(1L, "1_1000", new SseEmitter());
+        emitterRepository.save(10L, "10_1000", new SseEmitter());
+        emitterRepository.save(11L, "11_1000", new SseEmitter());
+
+        assertThat(emitterRepository.findAllEmitterByMemberId(1L))
+                .containsOnlyKeys("1_1000")
+                .containsValue(member1);
+        assertThat(emitterRepository.findAllEmitterByMemberId(10L)).containsOnlyKeys("10_1000");
+    }
+
+    @Test
+    void deleteAllEmitterByMemberId_keepsMembersSharingIdPrefix() {
+        emitterRepository.save(1L, "1_1000", new SseEmitter());
+        emitterRepository.save(1L, "1_2000", new SseEmitter());
+        emitterRepository.save(10L, "10_1000", new SseEmitter());
+        emitterRepository.save(11L, "11_1000", new SseEmitter());
+
+        emitterRepository.deleteAllEmitterByMemberId(1L);
+
+        assertThat(emitterRepository.findAllEmitterByMemberId(1L)).isEmpty();
+        assertThat(emitterRepository.findAllEmitterByMemberId(10L)).containsOnlyKeys("10_1000");
+        assertThat(emitterRepository.findAllEmitterByMemberId(11L)).containsOnlyKeys("11_1000");
+        assertThat(emitterRepository.countEmitters()).isEqualTo(2);
+    }
+
+    @Test
+    void eventCache_isSeparatedPerMember() {
+        emitterRepository.saveEventCache(1L, "member1-event");
+        emitterRepository.saveEventCache(10L, "member10-event");
+
+        assertThat(emitterRepository.findEventCacheAfter(1L, 0L))
+                .extracting(CachedEvent::event)
+                .containsExactly("member1-event");
+
+        emitterRepository.deleteAllEventCacheByMemberId(1L);
+
+        assertThat(emitterRepository.findEventCacheAfter(1L, 0L)).isEmpty();
+        assertThat(emitterRepository.findEventCacheAfter(10L, 0L))
+                .extracting(CachedEvent::event)
+                .containsExactly("member10-event");
+    }
+
+    @Test
+    void manyConnections_lookupAndCleanupTouchOnlyOwnEmitters() {
+        // 10만 연결 (회원 1만 명 x 10개)에서도 회원별 조회/삭제는 자기 연결만 대상으로 함
+        int members = 10_000;
+        int emittersPerMember = 10;
+        for (long memberId = 1; memberId <= members; memberId++) {
+            for (int i = 0; i < emittersPerMember; i++) {
+                emitterRepository.save(memberId, memberId + "_" + i, new SseEmitter());
+            }
+        }
+        assertThat(emitterRepository.countEmitters()).isEqualTo(members * emittersPerMember);
+
+        assertThat(emitterRepository.findAllEmitterByMemberId(1L)).hasSize(emittersPerMember)
+                .allSatisfy((emitterId, emitter) -> assertThat(emitterId).startsWith("1_"));
+
+        emitterRepository.deleteAllEmitterByMemberId(1L);
+
+        assertThat(emitterRepository.findAllEmitterByMemberId(1L)).isEmpty();
+        assertThat(emitterRepository.findAllEmitterByMemberId(10L)).hasSize(emittersPerMember);
+        assertThat(emitterRepository.findAllEmitterByMemberId(100L)).hasSize(emittersPerMember);
+        assertThat(emitterRepository.countEmitters()).isEqualTo((members - 1) * emittersPerMember);
+    }
+
+    @Test
+    void concurrentSaveAndDelete_keepsEmittersAndCountConsistent() throws Exception {
+        int threads = 8;
+        int emittersPerThread = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        try {
+            // 같은 회원에 대해 저장과 삭제를 동시에 실행, 짝수 번째 emitter만 남김
+            for (int t = 0; t < threads; t++) {
+                int threadNo = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < emittersPerThread; i++) {
+                        String emitterId = "1_" + threadNo + "_" + i;
+                        emitterRepository.save(1L, emitterId, new SseEmitter());
+                        if (i % 2 == 1) {
+                            emitterRepository.deleteById(1L, emitterId);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        int expected = threads * emittersPerThread / 2;
+        assertThat(emitterRepository.findAllEmitterByMemberId(1L)).hasSize(expected);
+        assertThat(emitterRepository.countEmitters()).isEqualTo(expected);
+    }
+
+    @Test
+    void concurrentSaveWhileLastEmitterIsDeleted_doesNotLoseNewEmitter() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // 마지막 emitter 삭제로 회원 항목이 제거되는 순간에 새 emitter가 저장되어도 유실되지 않아야 함
+            for (int i = 0; i < 1000; i++) {
+                String oldId = "1_old_" + i;
+                String newId = "1_new_" + i;
+                emitterRepository.save(1L, oldId, new SseEmitter());
+
+                CountDownLatch start = new CountDownLatch(1);
+                Future<?> delete = executor.submit(() -> {
+                    start.await();
+                    emitterRepository.deleteById(1L, oldId);
+                    return null;
+                });
+                Future<?> save = executor.submit(() -> {
+                    start.await();
+                    emitterRepository.save(1L, newId, new SseEmitter());
+                    return null;
+                });
+                start.countDown();
+                delete.get(10, TimeUnit.SECONDS);
+                save.get(10, TimeUnit.SECONDS);
+
+                assertThat(emitterRepository.findAllEmitterByMemberId(1L)).containsOnlyKeys(newId);
+                emitterRepository.deleteById(1L, newId);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(emitterRepository.countEmitters()).isZero();
+    }
+}
@@ -0,0 +1,87 @@
+package com.http200ok.finbuddy.notification.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventReplayBufferTest {
+
+    @Test
+    void findAfter_returnsEventsAfterLastEventIdInOrder() {
+        EventReplayBuffer buffer = new EventReplayBuffer(10);
+        AtomicLong sequence = new AtomicLong(100);
+        for (int i = 1; i <= 5; i++) {
+            buffer.append(sequence, "event" + i, 1000);
+        }
+
+        assertThat(buffer.findAfter(102, 0))
+                .extracting(CachedEvent::eventId)
+                .containsExactly(103L, 104L, 105L);
+        assertThat(buffer.findAfter(0, 0)).hasSize(5);
+        assertThat(buffer.findAfter(105, 0)).isEmpty();
+    }
+
+    @Test
+    void findAfter_whenFull_keepsOnlyLatestEvents() {
+        EventReplayBuffer buffer = new EventReplayBuffer(3);
+        AtomicLong sequence = new AtomicLong();
+        for (int i = 1; i <= 5; i++) {
+            buffer.append(sequence, "event" + i, 1000);
+        }
+
+        // 가장 오래된 이벤트(1, 2)는 덮어써짐
+        assertThat(buffer.findAfter(0, 0))
+                .extracting(CachedEvent::event)
+                .containsExactly("event3", "event4", "event5");
+        assertThat(buffer.findAfter(3, 0))
+                .extracting(CachedEvent::eventId)
+                .containsExactly(4L, 5L);
+    }
+
+    @Test
+    void findAfter_excludesExpiredEvents() {
+        EventReplayBuffer buffer = new EventReplayBuffer(10);
+        AtomicLong sequence = new AtomicLong();
+        buffer.append(sequence, "old", 1000);
+        buffer.append(sequence, "new", 5000);
+
+        assertThat(buffer.findAfter(0, 2000))
+                .extracting(CachedEvent::event)
+                .containsExactly("new");
+    }
+
+    @Test
+    void evictExpired_removesExpiredEventsAndReportsEmpty() {
+        EventReplayBuffer buffer = new EventReplayBuffer(10);
+        AtomicLong sequence = new AtomicLong();
+        buffer.append(sequence, "old", 1000);
+        buffer.append(sequence, "new", 5000);
+
+        assertThat(buffer.evictExpired(2000)).isFalse();
+        assertThat(buffer.findAfter(0, 0))
+                .extracting(CachedEvent::event)
+                .containsExactly("new");
+
+        assertThat(buffer.evictExpired(6000)).isTrue();
+        assertThat(buffer.findAfter(0, 0)).isEmpty();
+    }
+
+    @Test
+    void insert_keepsIdOrderAndIgnoresDuplicates() {
+        EventReplayBuffer buffer = new EventReplayBuffer(10);
+        buffer.insert(10, "event10", 1000);
+        buffer.insert(12, "event12", 1000);
+        // 다른 노드에서 순서가 뒤바뀌어 도착한 이벤트
+        buffer.insert(11, "event11", 1000);
+        buffer.insert(12, "duplicate", 1000);
+
+        assertThat(buffer.findAfter(0, 0))
+                .extracting(CachedEvent::event)
+                .containsExactly("event10", "event11", "event12");
+        assertThat(buffer.findAfter(10, 0))
+                .extracting(CachedEvent::eventId)
+                .containsExactly(11L, 12L);
+    }
+}
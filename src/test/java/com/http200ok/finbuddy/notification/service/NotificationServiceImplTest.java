@@ -0,0 +1,97 @@
+package com.http200ok.finbuddy.notification.service;
+
+import com.http200ok.finbuddy.notification.cache.UnreadCountCache;
+import com.http200ok.finbuddy.notification.dto.NotificationResponseDto;
+import com.http200ok.finbuddy.notification.repository.EmitterRepositoryImpl;
+import com.http200ok.finbuddy.notification.repository.NotificationRepository;
+import com.http200ok.finbuddy.notification.repository.NotificationSinkRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.codec.ServerSentEvent;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+
+class NotificationServiceImplTest {
+
+    private static final Long MEMBER_ID = 1L;
+
+    private EmitterRepositoryImpl emitterRepository;
+    private NotificationSinkRegistry notificationSinkRegistry;
+    private NotificationServiceImpl notificationService;
+
+    @BeforeEach
+    void setUp() {
+        emitterRepository = spy(new EmitterRepositoryImpl());
+        notificationSinkRegistry = new NotificationSinkRegistry();
+        notificationService = new NotificationServiceImpl(emitterRepository, mock(NotificationRepository.class),
+                mock(ApplicationEventPublisher.class), notificationSinkRegistry, mock(UnreadCountCache.class));
+    }
+
+    @Test
+    void subscribeStream_publishedDuringReplay_isSentOnceAfterReplay() throws Exception {
+        long lastEventId = publish("before-disconnect");
+        long missedEventId = publish("missed");
+
+        // 재전송 목록을 조회하기 직전에 새 알림 발행 (실시간 구독 이후, 재전송 조회 이전)
+        long[] duringReplayEventId = new long[1];
+        doAnswer(invocation -> {
+            duringReplayEventId[0] = publish("during-replay");
+            return invocation.callRealMethod();
+        }).when(emitterRepository).findEventCacheAfter(eq(MEMBER_ID), anyLong());
+
+        CompletableFuture<List<ServerSentEvent<NotificationResponseDto>>> received = notificationService
+                .subscribeStream(MEMBER_ID, String.valueOf(lastEventId))
+                .take(Duration.ofMillis(500))
+                .collectList()
+                .toFuture();
+
+        // 재전송이 끝난 뒤의 실시간 알림
+        long afterReplayEventId = publish("after-replay");
+
+        List<ServerSentEvent<NotificationResponseDto>> notifications = received.get(5, TimeUnit.SECONDS).stream()
+                .filter(event -> "notification".equals(event.event()))
+                .toList();
+
+        assertThat(notifications)
+                .extracting(ServerSentEvent::id)
+                .containsExactly(String.valueOf(missedEventId),
+                        String.valueOf(duringReplayEventId[0]),
+                        String.valueOf(afterReplayEventId));
+    }
+
+    @Test
+    void subscribeStream_withoutLastEventId_sendsOnlyLiveEvents() throws Exception {
+        publish("before-subscribe");
+
+        CompletableFuture<List<ServerSentEvent<NotificationResponseDto>>> received = notificationService
+                .subscribeStream(MEMBER_ID, "")
+                .take(Duration.ofMillis(500))
+                .collectList()
+                .toFuture();
+        long liveEventId = publish("live");
+
+        List<ServerSentEvent<NotificationResponseDto>> events = received.get(5, TimeUnit.SECONDS);
+
+        assertThat(events).extracting(ServerSentEvent::event).containsExactly("connect", "notification");
+        assertThat(events.get(1).id()).isEqualTo(String.valueOf(liveEventId));
+    }
+
+    // 발행 순서대로 재전송 캐시 저장 후 실시간 스트림 전송 (NotificationDispatcher와 같은 순서)
+    private long publish(String content) {
+        NotificationResponseDto notification = NotificationResponseDto.builder().content(content).build();
+        long eventId = emitterRepository.saveEventCache(MEMBER_ID, notification);
+        notificationSinkRegistry.emit(MEMBER_ID, String.valueOf(eventId), notification);
+        return eventId;
+    }
+}
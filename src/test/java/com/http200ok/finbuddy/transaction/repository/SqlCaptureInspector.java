@@ -0,0 +1,35 @@
+package com.http200ok.finbuddy.transaction.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Hibernate가 실행하는 SQL을 기록 (실제 생성된 SQL로 실행 계획을 확인하기 위함)
+ */
+public class SqlCaptureInspector implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+
+    public static void clear() {
+        STATEMENTS.clear();
+    }
+
+    // 기록된 SELECT 중 거래내역 테이블을 조회한 마지막 SQL
+    public static String lastTransactionSelect() {
+        for (int i = STATEMENTS.size() - 1; i >= 0; i--) {
+            String sql = STATEMENTS.get(i);
+            if (sql.regionMatches(true, 0, "select", 0, 6) && TransactionQueryPlanIntegrationTest.transactionAlias(sql) != null) {
+                return sql;
+            }
+        }
+        throw new IllegalStateException("거래내역 조회 SQL이 기록되지 않았습니다: " + STATEMENTS);
+    }
+}
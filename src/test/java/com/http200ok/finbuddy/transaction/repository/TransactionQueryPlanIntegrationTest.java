@@ -0,0 +1,265 @@
+package com.http200ok.finbuddy.transaction.repository;
+
+import com.http200ok.finbuddy.account.domain.Account;
+import com.http200ok.finbuddy.account.domain.AccountType;
+import com.http200ok.finbuddy.account.repository.AccountRepository;
+import com.http200ok.finbuddy.bank.domain.Bank;
+import com.http200ok.finbuddy.bank.repository.BankRepository;
+import com.http200ok.finbuddy.category.domain.Category;
+import com.http200ok.finbuddy.category.repository.CategoryRepository;
+import com.http200ok.finbuddy.member.domain.Member;
+import com.http200ok.finbuddy.member.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 거래내역 조회 쿼리 실행 계획 회귀 테스트 (MySQL 컨테이너 사용, Docker가 없으면 건너뜀)
+ * - Hibernate가 실제로 생성한 SQL을 EXPLAIN 하여 거래내역 테이블을 전체 스캔하지 않는지 확인
+ * - 계좌 거래내역 조회는 이전 ":param IS NULL OR ..." 쿼리와 실행 계획/소요 시간을 비교하여 출력
+ */
+@Tag("integration")
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = {
+        "smtp.email=test@finbuddy.com",
+        "spring.mail.username=test@finbuddy.com",
+        "spring.mail.password=test",
+        "bank.api.key=test",
+        "jwt.access.secret=dGVzdC1hY2Nlc3Mtc2VjcmV0LWtleS1mb3ItZmluYnVkZHktaW50ZWdyYXRpb24",
+        "jwt.refresh.secret=dGVzdC1yZWZyZXNoLXNlY3JldC1rZXktZm9yLWZpbmJ1ZGR5LWludGVncmF0aW9u",
+        "spring.task.scheduling.enabled=false",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.http200ok.finbuddy.transaction.repository.SqlCaptureInspector"
+})
+class TransactionQueryPlanIntegrationTest {
+
+    private static final int MEMBERS = 50;
+    private static final int TRANSACTIONS_PER_ACCOUNT = 240;
+    private static final LocalDateTime MONTH_START = LocalDateTime.of(2025, 3, 1, 0, 0);
+    private static final LocalDateTime NEXT_MONTH_START = MONTH_START.plusMonths(1);
+    private static final int BENCHMARK_ITERATIONS = 200;
+    // 동적 조회로 바꾸기 전의 계좌 거래내역 조회 쿼리 (비교용)
+    private static final String CATCH_ALL_HISTORY_SQL = """
+            SELECT t.* FROM transaction t
+            WHERE t.account_id = ?
+            AND (? IS NULL OR t.transaction_date >= ?)
+            AND (? IS NULL OR t.transaction_date <= ?)
+            AND (? IS NULL OR t.transaction_type = ?)
+            """;
+    private static final Pattern TRANSACTION_ALIAS = Pattern.compile("\\btransaction\\s+(\\w+)", Pattern.CASE_INSENSITIVE);
+
+    private static boolean seeded;
+    private static Long memberId;
+    private static Long accountId;
+
+    @Container
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+    }
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+    @Autowired
+    private AccountRepository accountRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private BankRepository bankRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        if (seeded) {
+            return;
+        }
+
+        for (long id = categoryRepository.count() + 1; id <= 7; id++) {
+            Category category = new Category();
+            category.setName("카테고리" + id);
+            categoryRepository.save(category);
+        }
+        Bank bank = new Bank();
+        bank.setName("테스트은행");
+        bank.setCode("999");
+        bankRepository.save(bank);
+
+        // 회원마다 입출금/적금 계좌 1개씩, 계좌마다 1년치 거래내역 (옵티마이저가 인덱스를 고를 만큼의 데이터)
+        List<Object[]> rows = new ArrayList<>();
+        LocalDateTime yearStart = LocalDateTime.of(2025, 1, 1, 0, 0);
+        for (int m = 0; m < MEMBERS; m++) {
+            Member member = memberRepository.save(Member.builder()
+                    .name("member" + m)
+                    .email("member" + m + "@finbuddy.com")
+                    .password("password")
+                    .birthDate(LocalDate.of(1990, 1, 1))
+                    .sex("M")
+                    .job("직장인")
+                    .income("3000")
+                    .build());
+            for (AccountType accountType : List.of(AccountType.CHECKING, AccountType.SAVING)) {
+                Account account = accountRepository.save(Account.createAccount(member, bank, null, null, "계좌",
+                        accountType + "-" + m, "1234", accountType, 1_000_000L, yearStart, null));
+                if (memberId == null) {
+                    memberId = member.getId();
+                    accountId = account.getId();
+                }
+                for (int i = 0; i < TRANSACTIONS_PER_ACCOUNT; i++) {
+                    rows.add(new Object[]{account.getId(), "상대방", i % 2 + 1, 1_000L, 1_000_000L,
+                            Timestamp.valueOf(yearStart.plusHours(i * 36L)), (long) (i % 7 + 1)});
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO transaction (account_id, opponent_name, transaction_type, amount, updated_balance, transaction_date, category_id)
+                VALUES (?, ?, ?, ?, ?, ?, ?)
+                """, rows);
+        jdbcTemplate.execute("ANALYZE TABLE transaction, account, member");
+        seeded = true;
+    }
+
+    @Test
+    void monthlyMemberQueries_useIndexOnTransaction() {
+        assertIndexedPlan(() -> transactionRepository.getTotalSpendingForCurrentMonth(memberId, MONTH_START, NEXT_MONTH_START),
+                memberId, MONTH_START, NEXT_MONTH_START);
+        assertIndexedPlan(() -> transactionRepository.findTransactionByYearMonthForCheckingAccounts(memberId, MONTH_START, NEXT_MONTH_START),
+                memberId, MONTH_START, NEXT_MONTH_START);
+        assertIndexedPlan(() -> transactionRepository.sumAmountByCategoryForMonth(memberId, MONTH_START, NEXT_MONTH_START),
+                memberId, MONTH_START, NEXT_MONTH_START);
+        assertIndexedPlan(() -> transactionRepository.sumTotalAmountForMonth(memberId, MONTH_START, NEXT_MONTH_START),
+                memberId, MONTH_START, NEXT_MONTH_START);
+        assertIndexedPlan(() -> transactionRepository.findLatestTransactionsForUserCheckingAccountsInMonth(memberId, MONTH_START, NEXT_MONTH_START),
+                memberId, MONTH_START, NEXT_MONTH_START);
+    }
+
+    @Test
+    void monthlyAccountQueries_useIndexOnTransaction() {
+        assertIndexedPlan(() -> transactionRepository.getTotalSpendingForMonth(memberId, accountId, MONTH_START, NEXT_MONTH_START),
+                memberId, accountId, MONTH_START, NEXT_MONTH_START);
+        assertIndexedPlan(() -> transactionRepository.getTotalIncomeForMonth(memberId, accountId, MONTH_START, NEXT_MONTH_START),
+                memberId, accountId, MONTH_START, NEXT_MONTH_START);
+        assertIndexedPlan(() -> transactionRepository.getTotalSpendingByCategoryForMonth(memberId, accountId, MONTH_START, NEXT_MONTH_START),
+                memberId, accountId, MONTH_START, NEXT_MONTH_START);
+    }
+
+    @Test
+    void accountHistory_filtered_dynamicQueryUsesRangeOnCompositeIndex() {
+        LocalDateTime startDate = MONTH_START;
+        LocalDateTime endDate = NEXT_MONTH_START.minusNanos(1000);
+        Integer transactionType = 2;
+
+        SqlCaptureInspector.clear();
+        transactionRepository.findAll(TransactionSpecifications.accountTransactions(accountId, startDate, endDate, transactionType));
+        String dynamicSql = SqlCaptureInspector.lastTransactionSelect();
+        Object[] dynamicArgs = {accountId, startDate, endDate, transactionType};
+        Object[] catchAllArgs = {accountId, startDate, startDate, endDate, endDate, transactionType, transactionType};
+
+        Map<String, Object> dynamicPlan = transactionPlan(dynamicSql, dynamicArgs);
+        Map<String, Object> catchAllPlan = transactionPlan(CATCH_ALL_HISTORY_SQL, catchAllArgs);
+        printComparison("기간+유형 조건", catchAllPlan, CATCH_ALL_HISTORY_SQL, catchAllArgs, dynamicPlan, dynamicSql, dynamicArgs);
+
+        // 전달된 조건만 포함되므로 (계좌, 유형, 일자) 인덱스 범위 조회가 가능해야 함
+        assertThat(dynamicPlan.get("type")).as("실행 계획: %s", dynamicPlan).isEqualTo("range");
+        assertThat(dynamicPlan.get("key")).as("실행 계획: %s", dynamicPlan).isNotNull();
+        assertThat(((Number) dynamicPlan.get("rows")).longValue())
+                .isLessThanOrEqualTo(((Number) catchAllPlan.get("rows")).longValue());
+    }
+
+    @Test
+    void accountHistory_unfiltered_dynamicQueryUsesAccountIndex() {
+        SqlCaptureInspector.clear();
+        transactionRepository.findAll(TransactionSpecifications.accountTransactions(accountId, null, null, null));
+        String dynamicSql = SqlCaptureInspector.lastTransactionSelect();
+        Object[] dynamicArgs = {accountId};
+        Object[] catchAllArgs = {accountId, null, null, null, null, null, null};
+
+        Map<String, Object> dynamicPlan = transactionPlan(dynamicSql, dynamicArgs);
+        Map<String, Object> catchAllPlan = transactionPlan(CATCH_ALL_HISTORY_SQL, catchAllArgs);
+        printComparison("조건 없음", catchAllPlan, CATCH_ALL_HISTORY_SQL, catchAllArgs, dynamicPlan, dynamicSql, dynamicArgs);
+
+        assertThat(dynamicPlan.get("type")).as("실행 계획: %s", dynamicPlan).isNotEqualTo("ALL");
+        assertThat(dynamicPlan.get("key")).as("실행 계획: %s", dynamicPlan).isNotNull();
+    }
+
+    // 이전/현재 쿼리의 실행 계획과 평균 소요 시간 출력
+    private void printComparison(String label, Map<String, Object> catchAllPlan, String catchAllSql, Object[] catchAllArgs,
+                                 Map<String, Object> dynamicPlan, String dynamicSql, Object[] dynamicArgs) {
+        System.out.println("[" + label + "] 이전 쿼리 계획: " + catchAllPlan + ", 평균 " + averageMicros(catchAllSql, catchAllArgs) + "us");
+        System.out.println("[" + label + "] 동적 쿼리 계획: " + dynamicPlan + ", 평균 " + averageMicros(dynamicSql, dynamicArgs) + "us");
+    }
+
+    private long averageMicros(String sql, Object[] args) {
+        Object[] bound = bindable(args);
+        // 워밍업
+        for (int i = 0; i < BENCHMARK_ITERATIONS / 10; i++) {
+            jdbcTemplate.queryForList(sql, bound);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < BENCHMARK_ITERATIONS; i++) {
+            jdbcTemplate.queryForList(sql, bound);
+        }
+        return (System.nanoTime() - start) / BENCHMARK_ITERATIONS / 1000;
+    }
+
+    // 쿼리를 실행하여 생성된 SQL을 얻고, 같은 파라미터(SQL 등장 순서)로 EXPLAIN
+    private void assertIndexedPlan(Runnable query, Object... args) {
+        SqlCaptureInspector.clear();
+        query.run();
+        String sql = SqlCaptureInspector.lastTransactionSelect();
+
+        Map<String, Object> plan = transactionPlan(sql, args);
+
+        assertThat(plan.get("type")).as("실행 계획: %s%nSQL: %s", plan, sql).isNotEqualTo("ALL");
+        assertThat(plan.get("key")).as("실행 계획: %s%nSQL: %s", plan, sql).isNotNull();
+    }
+
+    // EXPLAIN 결과 중 거래내역 테이블 행
+    Map<String, Object> transactionPlan(String sql, Object... args) {
+        String alias = transactionAlias(sql);
+        List<Map<String, Object>> explain = jdbcTemplate.queryForList("EXPLAIN " + sql, bindable(args));
+        return explain.stream()
+                .filter(row -> alias.equals(row.get("table")))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("EXPLAIN 결과에 거래내역 테이블이 없습니다: " + explain));
+    }
+
+    static String transactionAlias(String sql) {
+        Matcher matcher = TRANSACTION_ALIAS.matcher(sql);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    private static Object[] bindable(Object... args) {
+        Object[] converted = new Object[args.length];
+        for (int i = 0; i < args.length; i++) {
+            converted[i] = args[i] instanceof LocalDateTime dateTime ? Timestamp.valueOf(dateTime) : args[i];
+        }
+        return converted;
+    }
+}
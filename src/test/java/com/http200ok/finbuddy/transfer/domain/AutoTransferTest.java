@@ -0,0 +1,27 @@
+package com.http200ok.finbuddy.transfer.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AutoTransferTest {
+
+    private static final LocalDateTime FAILED_AT = LocalDateTime.of(2026, 3, 10, 10, 25, 40);
+
+    @Test
+    void nextRetryTime_backsOffExponentiallyFromTheHour() {
+        // 재시도 배치가 정시 기준으로 조회하므로 실패 시각을 시간 단위로 잘라서 계산
+        assertThat(AutoTransfer.nextRetryTime(0, FAILED_AT)).isEqualTo(LocalDateTime.of(2026, 3, 10, 11, 0));
+        assertThat(AutoTransfer.nextRetryTime(1, FAILED_AT)).isEqualTo(LocalDateTime.of(2026, 3, 10, 12, 0));
+        assertThat(AutoTransfer.nextRetryTime(2, FAILED_AT)).isEqualTo(LocalDateTime.of(2026, 3, 10, 14, 0));
+        assertThat(AutoTransfer.nextRetryTime(4, FAILED_AT)).isEqualTo(LocalDateTime.of(2026, 3, 11, 2, 0));
+    }
+
+    @Test
+    void nextRetryTime_returnsNullAfterMaxRetryCount() {
+        assertThat(AutoTransfer.nextRetryTime(AutoTransfer.MAX_RETRY_COUNT - 1, FAILED_AT)).isNotNull();
+        assertThat(AutoTransfer.nextRetryTime(AutoTransfer.MAX_RETRY_COUNT, FAILED_AT)).isNull();
+    }
+}
@@ -0,0 +1,183 @@
+package com.http200ok.finbuddy.transfer.service;
+
+import com.http200ok.finbuddy.account.domain.Account;
+import com.http200ok.finbuddy.account.domain.AccountType;
+import com.http200ok.finbuddy.account.repository.AccountRepository;
+import com.http200ok.finbuddy.bank.domain.Bank;
+import com.http200ok.finbuddy.bank.repository.BankRepository;
+import com.http200ok.finbuddy.category.domain.Category;
+import com.http200ok.finbuddy.category.repository.CategoryRepository;
+import com.http200ok.finbuddy.common.exception.InsufficientBalanceException;
+import com.http200ok.finbuddy.member.domain.Member;
+import com.http200ok.finbuddy.member.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 계좌 간 양방향 동시 이체 스트레스 테스트 (MySQL 컨테이너 사용, Docker가 없으면 건너뜀)
+ * - 이체가 몇 건 성공하든 두 계좌 잔액 합계는 변하지 않아야 함
+ * - 데드락/락 대기 시간 초과가 호출자에게 전달되지 않아야 함 (잔액 부족만 허용)
+ */
+@Tag("integration")
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = {
+        "smtp.email=test@finbuddy.com",
+        "spring.mail.username=test@finbuddy.com",
+        "spring.mail.password=test",
+        "bank.api.key=test",
+        "jwt.access.secret=dGVzdC1hY2Nlc3Mtc2VjcmV0LWtleS1mb3ItZmluYnVkZHktaW50ZWdyYXRpb24",
+        "jwt.refresh.secret=dGVzdC1yZWZyZXNoLXNlY3JldC1rZXktZm9yLWZpbmJ1ZGR5LWludGVncmF0aW9u",
+        "spring.task.scheduling.enabled=false",
+        "spring.jpa.show-sql=false"
+})
+class TransferConcurrencyIntegrationTest {
+
+    private static final int THREADS = 8;
+    private static final int TRANSFERS_PER_THREAD = 50;
+    private static final long INITIAL_BALANCE = 100_000L;
+    private static final String PASSWORD = "1234";
+    private static final String BANK_NAME = "테스트은행";
+
+    @Container
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+    }
+
+    @Autowired
+    private TransferService transferService;
+    @Autowired
+    private AccountRepository accountRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private BankRepository bankRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private Account accountA;
+    private Account accountB;
+
+    @BeforeEach
+    void setUp() {
+        // 이체 카테고리(ID 7) 준비
+        for (long id = categoryRepository.count() + 1; id <= 7; id++) {
+            Category category = new Category();
+            category.setName("카테고리" + id);
+            categoryRepository.save(category);
+        }
+
+        Bank bank = bankRepository.findAll().stream()
+                .filter(existing -> BANK_NAME.equals(existing.getName()))
+                .findFirst()
+                .orElseGet(() -> {
+                    Bank created = new Bank();
+                    created.setName(BANK_NAME);
+                    created.setCode("999");
+                    return bankRepository.save(created);
+                });
+
+        String suffix = String.valueOf(System.nanoTime());
+        accountA = createAccount(createMember("a" + suffix), bank, "A-" + suffix);
+        accountB = createAccount(createMember("b" + suffix), bank, "B-" + suffix);
+    }
+
+    @Test
+    void concurrentTransfersBetweenTwoAccounts_conserveTotalBalanceWithoutDeadlocks() throws Exception {
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger insufficient = new AtomicInteger();
+        Queue<Throwable> unexpectedErrors = new ConcurrentLinkedQueue<>();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < TRANSFERS_PER_THREAD; i++) {
+                        boolean aToB = random.nextBoolean();
+                        Account from = aToB ? accountA : accountB;
+                        Account to = aToB ? accountB : accountA;
+                        long amount = random.nextLong(1, 5_000);
+                        try {
+                            transferService.executeAccountTransfer(from.getMember().getId(), from.getId(), BANK_NAME,
+                                    to.getAccountNumber(), amount, PASSWORD, "보내는분", "받는분", null);
+                            succeeded.incrementAndGet();
+                        } catch (InsufficientBalanceException e) {
+                            insufficient.incrementAndGet();
+                        } catch (Exception e) {
+                            // 데드락/락 대기 시간 초과 등은 재시도 후에도 전달되면 실패
+                            unexpectedErrors.add(e);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long balanceA = accountRepository.findBalanceById(accountA.getId());
+        long balanceB = accountRepository.findBalanceById(accountB.getId());
+
+        assertThat(unexpectedErrors).isEmpty();
+        assertThat(succeeded.get() + insufficient.get()).isEqualTo(THREADS * TRANSFERS_PER_THREAD);
+        assertThat(balanceA + balanceB).isEqualTo(INITIAL_BALANCE * 2);
+        assertThat(balanceA).isNotNegative();
+        assertThat(balanceB).isNotNegative();
+    }
+
+    private Member createMember(String name) {
+        return memberRepository.save(Member.builder()
+                .name(name)
+                .email(name + "@finbuddy.com")
+                .password(passwordEncoder.encode(PASSWORD))
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .sex("M")
+                .job("직장인")
+                .income("3000")
+                .build());
+    }
+
+    private Account createAccount(Member member, Bank bank, String accountNumber) {
+        return accountRepository.save(Account.createAccount(member, bank, null, null, "입출금통장", accountNumber,
+                passwordEncoder.encode(PASSWORD), AccountType.CHECKING, INITIAL_BALANCE, LocalDateTime.now(), null));
+    }
+}